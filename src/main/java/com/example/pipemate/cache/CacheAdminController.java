@@ -0,0 +1,56 @@
+package com.example.pipemate.cache;
+
+import com.example.pipemate.cache.res.CacheEntriesResponse;
+import com.example.pipemate.cache.res.CacheStatsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/caches")
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final CacheAdminService cacheAdminService;
+
+    @GetMapping
+    @Operation(summary = "캐시 통계 조회", description = "캐시별 항목 수, 크기(byte), hit/miss 횟수와 hit ratio, eviction 횟수를 조회합니다.")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(cacheAdminService.getStats());
+    }
+
+    @DeleteMapping("/{cacheName}")
+    @Operation(summary = "저장소 단위 캐시 무효화", description = "지정한 캐시에서 owner/repo 저장소의 항목만 무효화합니다. 토큰으로 저장소에 접근할 수 없으면 404를 반환합니다.")
+    public ResponseEntity<CacheEntriesResponse> evictRepository(
+            @PathVariable String cacheName,
+            @RequestParam String owner,
+            @RequestParam String repo,
+            HttpServletRequest httpRequest
+    ) {
+        return ResponseEntity.ok(cacheAdminService.evict(cacheName, owner, repo, extractToken(httpRequest)));
+    }
+
+    @PostMapping("/{cacheName}/warm")
+    @Operation(summary = "저장소 단위 캐시 갱신(워밍)", description = "지정한 캐시에 있는 owner/repo 저장소 항목을 다음 조회 시 기존 값을 반환하면서 백그라운드에서 다시 조회하도록 표시합니다. "
+            + "토큰으로 저장소에 접근할 수 없으면 404를 반환합니다.")
+    public ResponseEntity<CacheEntriesResponse> warmRepository(
+            @PathVariable String cacheName,
+            @RequestParam String owner,
+            @RequestParam String repo,
+            HttpServletRequest httpRequest
+    ) {
+        return ResponseEntity.ok(cacheAdminService.warm(cacheName, owner, repo, extractToken(httpRequest)));
+    }
+
+    private String extractToken(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        if (token == null || !token.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Authorization header must be provided in 'Bearer ghp_xxx' format");
+        }
+        return token.substring("Bearer ".length()).trim();
+    }
+}
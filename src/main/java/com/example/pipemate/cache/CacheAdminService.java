@@ -0,0 +1,85 @@
+package com.example.pipemate.cache;
+
+import com.example.pipemate.cache.res.CacheEntriesResponse;
+import com.example.pipemate.cache.res.CacheStatsResponse;
+import com.example.pipemate.util.GithubRepoAccessVerifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * 캐시 통계 조회, 저장소 단위 무효화/워밍(refresh)
+ * 무효화/워밍은 요청한 토큰이 그 저장소에 접근할 수 있을 때만 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheAdminService {
+
+    private final CacheManager cacheManager;
+    private final RepoCacheIndex repoCacheIndex;
+    private final RepoCacheInvalidator repoCacheInvalidator;
+    private final GithubRepoAccessVerifier accessVerifier;
+
+    /**
+     * 모든 캐시의 크기와 hit/miss/eviction 통계를 반환한다.
+     */
+    public List<CacheStatsResponse> getStats() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(name -> {
+                    Cache<Object, Object> cache = nativeCache(name);
+                    CacheStats stats = cache.stats();
+                    Long weightedSize = cache.policy().eviction()
+                            .filter(eviction -> eviction.weightedSize().isPresent())
+                            .map(eviction -> eviction.weightedSize().getAsLong())
+                            .orElse(null);
+                    return new CacheStatsResponse(name, cache.estimatedSize(), weightedSize,
+                            stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(),
+                            stats.loadCount(), stats.loadFailureCount(), repoCacheIndex.removals(name));
+                })
+                .toList();
+    }
+
+    /**
+     * 캐시에서 특정 저장소의 항목만 무효화한다.
+     */
+    public CacheEntriesResponse evict(String cacheName, String owner, String repo, String token) {
+        nativeCache(cacheName);
+        accessVerifier.verify(owner, repo, token);
+        int evicted = repoCacheInvalidator.invalidate(owner, repo, cacheName);
+        log.info("[CacheAdminService] {} 캐시에서 {}/{} 항목 {}개 무효화", cacheName, owner, repo, evicted);
+        return new CacheEntriesResponse(cacheName, owner, repo, evicted);
+    }
+
+    /**
+     * 캐시에 있는 특정 저장소의 항목을 다음 조회 시 백그라운드에서 다시 계산하도록 표시한다.
+     * (캐시는 토큰을 보관하지 않으므로, 실제 갱신은 다음 요청자의 권한으로 수행된다)
+     */
+    public CacheEntriesResponse warm(String cacheName, String owner, String repo, String token) {
+        nativeCache(cacheName);
+        accessVerifier.verify(owner, repo, token);
+        if (!(cacheManager.getCache(cacheName) instanceof RepoIndexedCaffeineCache cache)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "갱신을 지원하지 않는 캐시입니다: " + cacheName);
+        }
+        int marked = cache.markForRefresh(repoCacheIndex.keys(cacheName, owner, repo));
+        log.info("[CacheAdminService] {} 캐시에서 {}/{} 항목 {}개 갱신 표시", cacheName, owner, repo, marked);
+        return new CacheEntriesResponse(cacheName, owner, repo, marked);
+    }
+
+    private Cache<Object, Object> nativeCache(String cacheName) {
+        if (!cacheManager.getCacheNames().contains(cacheName)
+                || !(cacheManager.getCache(cacheName) instanceof CaffeineCache caffeineCache)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "캐시를 찾을 수 없습니다: " + cacheName);
+        }
+        return caffeineCache.getNativeCache();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.pipemate.cache;
+
+import com.example.pipemate.util.GithubRepoAccessVerifier;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Caffeine 기반 CacheManager 설정.
+ * <p>
+ * - 캐시 이름별 설정(CacheSpecProperties)에 따라 크기(byte) 제한, 만료, refresh-ahead를 적용한다.
+ * - 모든 캐시는 통계(hit/miss/eviction)를 기록한다. (/api/caches 에서 조회)
+ * - 저장소(owner/repo)별 키 인덱스를 유지하여 저장소 단위로 무효화할 수 있다. (RepoCacheInvalidator)
+ * - persistent-type이 지정된 캐시는 L2(PersistentCacheStore)에도 저장하여 재시작 후 재사용한다. (CacheWarmUp)
+ * - 저장소 단위 캐시 키 생성기 두 가지를 제공한다. (repoCacheKeyGenerator: 저장소 공유, tokenScopedRepoCacheKeyGenerator: 토큰별)
+ */
+@Configuration
+@EnableConfigurationProperties(CacheSpecProperties.class)
+public class CacheConfig {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public RepoCacheIndex repoCacheIndex() {
+        return new RepoCacheIndex();
+    }
+
+    @Bean
+    public RepoCacheKeyGenerator repoCacheKeyGenerator(GithubRepoAccessVerifier accessVerifier) {
+        return RepoCacheKeyGenerator.shared(accessVerifier);
+    }
+
+    @Bean
+    public RepoCacheKeyGenerator tokenScopedRepoCacheKeyGenerator() {
+        return RepoCacheKeyGenerator.tokenScoped();
+    }
+
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties properties,
+                                     ObjectMapper objectMapper,
+                                     RepoCacheIndex repoCacheIndex,
+                                     PersistentCacheStore persistentCacheStore) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                CacheSpecProperties.Spec spec = properties.getSpecs().getOrDefault(name, properties.getDefaults());
+                JavaType persistentType = spec.getPersistentType() == null ? null : objectMapper.constructType(spec.getPersistentType());
+                return new RepoIndexedCaffeineCache(name, cache, isAllowNullValues(), repoCacheIndex,
+                        spec.getRefreshAfterWrite(), refreshExecutor,
+                        persistentCacheStore, persistentType, expireAfterWrite(spec));
+            }
+
+            @Override
+            protected Cache<Object, Object> createNativeCaffeineCache(String name) {
+                return builder(name, properties.getDefaults(), objectMapper, repoCacheIndex).build();
+            }
+        };
+
+        properties.getSpecs().forEach((name, spec) ->
+                cacheManager.registerCustomCache(name, builder(name, spec, objectMapper, repoCacheIndex).build()));
+        return cacheManager;
+    }
+
+    private Caffeine<Object, Object> builder(String name, CacheSpecProperties.Spec spec,
+                                             ObjectMapper objectMapper, RepoCacheIndex repoCacheIndex) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .recordStats()
+                .executor(refreshExecutor)
+                .removalListener((key, value, cause) -> repoCacheIndex.onRemoval(name, key, cause));
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight().toBytes())
+                    .weigher((key, value) -> weigh(objectMapper, value));
+        }
+        // refresh-ahead는 항목의 저장 후 경과 시간(age)으로 판단하므로 expire-after-write가 항상 필요하다.
+        builder.expireAfterWrite(expireAfterWrite(spec));
+        return builder;
+    }
+
+    private Duration expireAfterWrite(CacheSpecProperties.Spec spec) {
+        return spec.getExpireAfterWrite() != null ? spec.getExpireAfterWrite() : Duration.ofDays(1);
+    }
+
+    /**
+     * 값을 JSON으로 직렬화한 크기로 캐시 항목의 무게(byte)를 추정한다.
+     */
+    private int weigh(ObjectMapper objectMapper, Object value) {
+        if (value == null || value instanceof NullValue) {
+            return ENTRY_OVERHEAD_BYTES;
+        }
+        try {
+            return ENTRY_OVERHEAD_BYTES + objectMapper.writeValueAsBytes(value).length;
+        } catch (JsonProcessingException e) {
+            return ENTRY_OVERHEAD_BYTES + 1024;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.pipemate.cache;
+
+import com.example.pipemate.workflow.res.WorkflowListResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시 이름별 Caffeine 설정. (pipemate.cache.specs.{캐시 이름}.*)
+ * <p>
+ * - maximum-weight: 캐시가 차지할 수 있는 최대 크기 (값을 JSON으로 직렬화한 크기 기준)
+ * - expire-after-write: 저장 후 만료 시간
+ * - refresh-after-write: 저장 후 이 시간이 지나 조회되면 기존 값을 반환하면서 백그라운드에서 새로 계산 (없으면 사용 안 함, @Cacheable(sync = true) 필요)
+ * - persistent-type: 지정하면 이 타입의 값을 L2(PersistentCacheStore)에도 저장하여 재시작 후 재사용 (저장소 공유 키만, 토큰별 키는 저장하지 않음)
+ * <p>
+ * 설정되지 않은 캐시 이름은 defaults 설정으로 만들어진다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pipemate.cache")
+public class CacheSpecProperties {
+
+    private Spec defaults = new Spec(DataSize.ofMegabytes(16), Duration.ofMinutes(10), null, null);
+
+    private Map<String, Spec> specs = new LinkedHashMap<>(Map.of(
+            "workflow-file-list", new Spec(DataSize.ofMegabytes(32), Duration.ofMinutes(10), Duration.ofMinutes(1), WorkflowListResponse.class),
+            "secret-key-list", new Spec(DataSize.ofMegabytes(8), Duration.ofMinutes(10), Duration.ofMinutes(1), null),
+            "repo-public-key", new Spec(DataSize.ofMegabytes(4), Duration.ofHours(1), null, null)
+    ));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+        private DataSize maximumWeight;
+        private Duration expireAfterWrite;
+        private Duration refreshAfterWrite;
+        private Class<?> persistentType;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.pipemate.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 애플리케이션 시작 후 L2(PersistentCacheStore)에 저장된 값으로 메모리 캐시(L1)를 채운다.
+ * <p>
+ * - 준비(ready) 이벤트 이후 별도 가상 스레드에서 실행하므로 기동과 readiness를 지연시키지 않는다.
+ * - 워밍업이 끝나기 전의 요청도 L1 미스 시 L2를 직접 조회하므로, 재시작 직후부터 GitHub 호출 없이 응답할 수 있다.
+ * - 만료된 L2 항목을 먼저 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheWarmUp {
+
+    private final CacheManager cacheManager;
+    private final PersistentCacheStore persistentCacheStore;
+    private final List<WarmableCache> warmableCaches;
+
+    @Value("${pipemate.cache.l2.warm-up-limit:1000}")
+    private int warmUpLimit;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!persistentCacheStore.isEnabled()) {
+            return;
+        }
+        Thread.ofVirtual().name("cache-warm-up").start(this::warmUp);
+    }
+
+    void warmUp() {
+        try {
+            int expired = persistentCacheStore.deleteExpired();
+            log.info("[CacheWarmUp] 만료된 L2 캐시 항목 {}개 정리", expired);
+        } catch (RuntimeException e) {
+            log.warn("[CacheWarmUp] L2 캐시를 사용할 수 없어 워밍업을 건너뜁니다: {}", e.toString());
+            return;
+        }
+
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof RepoIndexedCaffeineCache cache) {
+                warmUp(name, () -> cache.warmUp(warmUpLimit));
+            }
+        }
+        for (WarmableCache cache : warmableCaches) {
+            warmUp(cache.cacheName(), () -> cache.warmUp(warmUpLimit));
+        }
+    }
+
+    private void warmUp(String name, IntSupplier warmer) {
+        long started = System.nanoTime();
+        try {
+            int loaded = warmer.getAsInt();
+            if (loaded > 0) {
+                log.info("[CacheWarmUp] {} 캐시 {}개 항목 로드 ({} ms)", name, loaded, (System.nanoTime() - started) / 1_000_000);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[CacheWarmUp] {} 캐시 워밍업 실패: {}", name, e.toString());
+        }
+    }
+}
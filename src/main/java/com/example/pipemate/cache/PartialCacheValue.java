@@ -0,0 +1,14 @@
+package com.example.pipemate.cache;
+
+/**
+ * 일부 조회에 실패해 불완전할 수 있는 캐시 값.
+ * 불완전한 값은 L2(PersistentCacheStore)에 저장하지 않고, 저장 후 짧은 시간이 지나 조회되면 백그라운드에서 다시 계산한다.
+ * (@Cacheable(sync = true)는 unless를 지원하지 않으므로 캐시 쪽에서 처리한다)
+ */
+public interface PartialCacheValue {
+
+    /**
+     * 일부 항목이 기본값으로 채워진 불완전한 값인지 여부
+     */
+    boolean isPartial();
+}
@@ -0,0 +1,195 @@
+package com.example.pipemate.cache;
+
+import com.example.pipemate.cache.entity.PersistentCacheEntry;
+import com.example.pipemate.cache.repository.PersistentCacheEntryRepository;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 메모리 캐시(Caffeine, L1) 뒤에 두는 영속 캐시(L2). JPA datasource의 cache_entry 테이블을 사용한다.
+ * <p>
+ * - 값은 JSON으로 직렬화하고 형식 버전(FORMAT_VERSION)과 값 타입을 함께 저장한다.
+ *   버전이나 타입이 현재 코드와 다르면 읽지 않고 삭제한다. (응답 클래스 구조를 호환되지 않게 바꿀 때 버전을 올린다)
+ * - 저장은 요청 스레드를 막지 않도록 단일 writer 스레드에서 순서대로 처리한다.
+ * - 삭제는 바로 반영하고, 앞서 예약된 저장이 삭제한 값을 되살리지 않도록 writer 큐에도 한 번 더 넣는다.
+ * - L2 장애(테이블 없음, DB 연결 실패 등)는 캐시 미스로 처리하여 응답에는 영향을 주지 않는다.
+ */
+@Component
+@Slf4j
+public class PersistentCacheStore {
+
+    static final int FORMAT_VERSION = 1;
+
+    private final PersistentCacheEntryRepository repository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("cache-l2-writer").factory());
+
+    public PersistentCacheStore(
+            PersistentCacheEntryRepository repository,
+            ObjectMapper objectMapper,
+            @Value("${pipemate.cache.l2.enabled:true}") boolean enabled
+    ) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * L2에서 값을 읽는다. 없거나, 만료되었거나, 버전·타입이 다르면 empty.
+     */
+    public <T> Optional<Stored<T>> get(String cacheName, String key, JavaType type) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            return repository.findById(id(cacheName, key)).flatMap(entry -> decode(entry, type));
+        } catch (RuntimeException e) {
+            log.warn("[PersistentCacheStore] {} 캐시 {} 조회 실패: {}", cacheName, key, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 여러 키를 한 번에 읽는다. (찾은 항목만 반환)
+     */
+    public <T> Map<String, T> getAll(String cacheName, Collection<String> keys, JavaType type) {
+        if (!enabled || keys.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            Map<String, T> values = new HashMap<>();
+            for (PersistentCacheEntry entry : repository.findAllById(keys.stream().map(key -> id(cacheName, key)).toList())) {
+                this.<T>decode(entry, type).ifPresent(stored -> values.put(entry.getCacheKey(), stored.value()));
+            }
+            return values;
+        } catch (RuntimeException e) {
+            log.warn("[PersistentCacheStore] {} 캐시 일괄 조회 실패: {}", cacheName, e.toString());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 워밍업용: 만료되지 않은 항목을 최근 저장 순으로 최대 limit개 읽는다.
+     */
+    public <T> List<Stored<T>> recent(String cacheName, JavaType type, int limit) {
+        if (!enabled || limit <= 0) {
+            return List.of();
+        }
+        List<Stored<T>> values = new ArrayList<>();
+        for (PersistentCacheEntry entry : repository.findByCacheNameAndExpiresAtAfterOrderByStoredAtDesc(
+                cacheName, Instant.now(), PageRequest.of(0, limit))) {
+            this.<T>decode(entry, type).ifPresent(values::add);
+        }
+        return values;
+    }
+
+    /**
+     * 값을 ttl 동안 보관하도록 저장을 예약한다. owner/repo는 저장소 단위 항목인 경우에만 지정한다.
+     */
+    public void put(String cacheName, String key, String owner, String repo, Object value, JavaType type, Duration ttl) {
+        if (!enabled || value == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        writer.execute(() -> {
+            try {
+                repository.save(PersistentCacheEntry.builder()
+                        .id(id(cacheName, key))
+                        .cacheName(cacheName)
+                        .cacheKey(key)
+                        .owner(owner)
+                        .repo(repo)
+                        .formatVersion(FORMAT_VERSION)
+                        .valueType(type.toCanonical())
+                        .payload(objectMapper.writerFor(type).writeValueAsString(value))
+                        .storedAt(now)
+                        .expiresAt(now.plus(ttl))
+                        .build());
+            } catch (Exception e) {
+                log.warn("[PersistentCacheStore] {} 캐시 {} 저장 실패: {}", cacheName, key, e.toString());
+            }
+        });
+    }
+
+    public void delete(String cacheName, String key) {
+        if (!enabled) {
+            return;
+        }
+        String id = id(cacheName, key);
+        deleteQuietly(() -> repository.deleteById(id), cacheName, key);
+        writer.execute(() -> deleteQuietly(() -> repository.deleteById(id), cacheName, key));
+    }
+
+    public void clear(String cacheName) {
+        if (!enabled) {
+            return;
+        }
+        deleteQuietly(() -> repository.deleteByCacheName(cacheName), cacheName, "*");
+        writer.execute(() -> deleteQuietly(() -> repository.deleteByCacheName(cacheName), cacheName, "*"));
+    }
+
+    /**
+     * 만료된 항목을 정리하고 삭제한 개수를 반환한다.
+     */
+    public int deleteExpired() {
+        return enabled ? repository.deleteExpired(Instant.now()) : 0;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writer.shutdown();
+    }
+
+    private <T> Optional<Stored<T>> decode(PersistentCacheEntry entry, JavaType type) {
+        if (entry.getExpiresAt().isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+        if (entry.getFormatVersion() != FORMAT_VERSION || !type.toCanonical().equals(entry.getValueType())) {
+            delete(entry.getCacheName(), entry.getCacheKey());
+            return Optional.empty();
+        }
+        try {
+            T value = objectMapper.readValue(entry.getPayload(), type);
+            return Optional.of(new Stored<>(entry.getCacheKey(), entry.getOwner(), entry.getRepo(), value, entry.getStoredAt()));
+        } catch (Exception e) {
+            log.warn("[PersistentCacheStore] {} 캐시 {} 역직렬화 실패: {}", entry.getCacheName(), entry.getCacheKey(), e.toString());
+            delete(entry.getCacheName(), entry.getCacheKey());
+            return Optional.empty();
+        }
+    }
+
+    private void deleteQuietly(Runnable deletion, String cacheName, String key) {
+        try {
+            deletion.run();
+        } catch (RuntimeException e) {
+            log.warn("[PersistentCacheStore] {} 캐시 {} 삭제 실패: {}", cacheName, key, e.toString());
+        }
+    }
+
+    private String id(String cacheName, String key) {
+        return cacheName + "|" + key;
+    }
+
+    /**
+     * L2에서 읽은 값과 저장 시각
+     */
+    public record Stored<T>(String key, String owner, String repo, T value, Instant storedAt) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.pipemate.cache;
+
+import com.example.pipemate.util.RepoNames;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시별 (owner/repo → 캐시 키 목록) 인덱스와 원인별 제거 횟수.
+ * <p>
+ * 저장소 단위 무효화 시 캐시 전체를 훑지 않고 해당 저장소의 키(모든 토큰)만 바로 찾기 위해 사용한다.
+ * 키는 캐시에 값이 저장될 때 등록되고, 캐시에서 제거(만료, 크기 초과, 명시적 무효화)될 때 해제된다.
+ */
+public class RepoCacheIndex {
+
+    private final Map<String, Map<String, Set<RepoCacheKey>>> keysByCache = new ConcurrentHashMap<>();
+    private final Map<String, Map<RemovalCause, LongAdder>> removalsByCache = new ConcurrentHashMap<>();
+
+    void register(String cacheName, Object key) {
+        if (key instanceof RepoCacheKey repoKey) {
+            keysByCache.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(repoPath(repoKey.owner(), repoKey.repo()), path -> ConcurrentHashMap.newKeySet())
+                    .add(repoKey);
+        }
+    }
+
+    /**
+     * 캐시 항목 제거 시 호출된다. (값 교체(REPLACED)는 키가 그대로 남으므로 인덱스를 유지한다)
+     */
+    void onRemoval(String cacheName, Object key, RemovalCause cause) {
+        removalsByCache.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(cause, c -> new LongAdder())
+                .increment();
+        if (cause == RemovalCause.REPLACED || !(key instanceof RepoCacheKey repoKey)) {
+            return;
+        }
+        Map<String, Set<RepoCacheKey>> keysByRepo = keysByCache.get(cacheName);
+        if (keysByRepo != null) {
+            keysByRepo.computeIfPresent(repoPath(repoKey.owner(), repoKey.repo()), (path, keys) -> {
+                keys.remove(repoKey);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * 캐시에 저장된 특정 저장소의 키 목록 (모든 토큰)
+     */
+    Set<RepoCacheKey> keys(String cacheName, String owner, String repo) {
+        Map<String, Set<RepoCacheKey>> keysByRepo = keysByCache.get(cacheName);
+        if (keysByRepo == null) {
+            return Set.of();
+        }
+        Set<RepoCacheKey> keys = keysByRepo.get(repoPath(owner, repo));
+        return keys == null ? Set.of() : Set.copyOf(keys);
+    }
+
+    /**
+     * 원인별(EXPLICIT, EXPIRED, SIZE, REPLACED, COLLECTED) 제거 횟수
+     */
+    Map<RemovalCause, Long> removals(String cacheName) {
+        Map<RemovalCause, Long> counts = new EnumMap<>(RemovalCause.class);
+        removalsByCache.getOrDefault(cacheName, Map.of()).forEach((cause, count) -> counts.put(cause, count.sum()));
+        return counts;
+    }
+
+    private String repoPath(String owner, String repo) {
+        return RepoNames.normalize(owner) + "/" + RepoNames.normalize(repo);
+    }
+}
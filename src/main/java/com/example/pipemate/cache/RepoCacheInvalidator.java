@@ -0,0 +1,47 @@
+package com.example.pipemate.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 저장소(owner/repo) 단위 캐시 무효화.
+ * 쓰기 작업이 일어난 저장소의 항목만 (모든 토큰에 대해) 무효화하고, 다른 저장소의 캐시는 그대로 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RepoCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final RepoCacheIndex repoCacheIndex;
+
+    /**
+     * 지정한 캐시들에서 owner/repo 저장소의 항목을 무효화하고, 무효화한 항목 수를 반환한다.
+     */
+    public int invalidate(String owner, String repo, String... cacheNames) {
+        int evicted = 0;
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            Set<RepoCacheKey> keys = repoCacheIndex.keys(cacheName, owner, repo);
+            keys.forEach(cache::evict);
+            RepoCacheKey sharedKey = RepoCacheKey.shared(owner, repo);
+            if (!keys.contains(sharedKey)) {
+                // 메모리에는 없고 L2에만 남아 있을 수 있는 공유 항목도 지운다. (재시작 후 아직 조회되지 않은 항목)
+                cache.evict(sharedKey);
+            }
+            evicted += keys.size();
+        }
+        if (evicted > 0) {
+            log.debug("[RepoCacheInvalidator] {}/{} 캐시 항목 {}개 무효화", owner, repo, evicted);
+        }
+        return evicted;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.pipemate.cache;
+
+import com.example.pipemate.util.RepoNames;
+
+/**
+ * 저장소 단위 캐시(@Cacheable)의 키.
+ * <p>
+ * - 저장소 단위로 공유되는 데이터는 tokenHash가 null이다. (토큰과 무관하게 저장소당 한 벌)
+ * - 토큰마다 결과가 다를 수 있는 데이터는 salted 토큰 해시를 포함한다. (평문 토큰은 키에 담지 않음)
+ * - owner/repo는 소문자로 맞춰 저장한다. (RepoNames)
+ */
+public record RepoCacheKey(String owner, String repo, String tokenHash) {
+
+    public RepoCacheKey {
+        owner = RepoNames.normalize(owner);
+        repo = RepoNames.normalize(repo);
+    }
+
+    public static RepoCacheKey shared(String owner, String repo) {
+        return new RepoCacheKey(owner, repo, null);
+    }
+
+    public boolean matches(String owner, String repo) {
+        return this.owner.equals(RepoNames.normalize(owner)) && this.repo.equals(RepoNames.normalize(repo));
+    }
+
+    @Override
+    public String toString() {
+        return tokenHash == null ? owner + "/" + repo : owner + "/" + repo + "@" + tokenHash.substring(0, 8);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.pipemate.cache;
+
+import com.example.pipemate.util.GithubRepoAccessVerifier;
+import com.example.pipemate.util.TokenHashes;
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+
+/**
+ * (String owner, String repo, String token) 시그니처의 메서드 인자로 RepoCacheKey를 만든다.
+ * <p>
+ * - 공유 키(shared): 토큰의 저장소 접근 권한을 먼저 확인한 뒤(결과는 별도 캐싱) 저장소 단위 키를 만든다.
+ *   권한이 없으면 캐시를 조회하기 전에 예외가 발생하므로, 다른 사용자가 채운 캐시 값이 노출되지 않는다.
+ * - 토큰별 키: salted 토큰 해시를 포함한 키를 만든다.
+ */
+public class RepoCacheKeyGenerator implements KeyGenerator {
+
+    private final GithubRepoAccessVerifier accessVerifier;
+
+    private RepoCacheKeyGenerator(GithubRepoAccessVerifier accessVerifier) {
+        this.accessVerifier = accessVerifier;
+    }
+
+    public static RepoCacheKeyGenerator shared(GithubRepoAccessVerifier accessVerifier) {
+        return new RepoCacheKeyGenerator(accessVerifier);
+    }
+
+    public static RepoCacheKeyGenerator tokenScoped() {
+        return new RepoCacheKeyGenerator(null);
+    }
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        if (params.length != 3 || !(params[0] instanceof String owner)
+                || !(params[1] instanceof String repo) || !(params[2] instanceof String token)) {
+            throw new IllegalStateException("RepoCacheKeyGenerator는 (owner, repo, token) 메서드에만 사용할 수 있습니다: " + method);
+        }
+        if (accessVerifier == null) {
+            return new RepoCacheKey(owner, repo, TokenHashes.hash(token));
+        }
+        accessVerifier.verify(owner, repo, token);
+        return RepoCacheKey.shared(owner, repo);
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.pipemate.cache;
+
+import com.example.pipemate.util.GithubRequestPriority;
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 저장소 단위 인덱스와 refresh-ahead를 지원하는 CaffeineCache.
+ * <p>
+ * - 값이 저장될 때 키를 RepoCacheIndex에 등록한다.
+ * - refresh-after-write가 설정된 경우, 저장 후 그 시간이 지난 항목이 조회되면 기존 값을 바로 반환하고
+ *   백그라운드에서 원래 메서드(valueLoader)를 다시 실행해 값을 교체한다. (@Cacheable(sync = true)에서 동작)
+ *   요청한 사용자의 호출을 그대로 재실행하므로, 캐시 쪽에서 토큰을 보관할 필요가 없다.
+ * - L2(PersistentCacheStore)가 지정된 경우, 저장소 공유 키의 값을 L2에도 저장하고 메모리에 없으면 L2에서 읽는다.
+ *   L2에서 읽은 값은 얼마나 오래된 값인지 보장할 수 없으므로 바로 반환한 뒤 백그라운드에서 다시 계산한다.
+ * - 불완전한 값(PartialCacheValue)은 L2에 저장하지 않고, 저장 후 partial-refresh-after가 지나 조회되면 다시 계산한다.
+ *   다시 계산한 값도 불완전하면 기존의 완전한 값을 덮어쓰지 않는다.
+ */
+@Slf4j
+class RepoIndexedCaffeineCache extends CaffeineCache {
+
+    // 불완전한 값을 다시 계산하기까지의 시간 (refresh-after-write보다 짧게)
+    private static final Duration PARTIAL_REFRESH_AFTER = Duration.ofSeconds(10);
+
+    private final RepoCacheIndex index;
+    private final Duration refreshAfterWrite;
+    private final ExecutorService refreshExecutor;
+    private final PersistentCacheStore l2;
+    private final JavaType persistentType;
+    private final Duration persistentTtl;
+
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final Set<Object> markedForRefresh = ConcurrentHashMap.newKeySet();
+
+    RepoIndexedCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues, RepoCacheIndex index,
+                             Duration refreshAfterWrite, ExecutorService refreshExecutor,
+                             PersistentCacheStore l2, JavaType persistentType, Duration persistentTtl) {
+        super(name, cache, allowNullValues);
+        this.index = index;
+        this.refreshAfterWrite = refreshAfterWrite;
+        this.refreshExecutor = refreshExecutor;
+        this.l2 = persistentType == null ? null : l2;
+        this.persistentType = persistentType;
+        this.persistentTtl = persistentTtl;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        T value = super.get(key, () -> loadThrough(key, valueLoader));
+        index.register(getName(), key);
+        if (needsRefresh(key, value)) {
+            refreshAsync(key, valueLoader);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        index.register(getName(), key);
+        persist(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        index.register(getName(), key);
+        if (existing == null) {
+            persist(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        if (isPersistent(key)) {
+            l2.delete(getName(), key.toString());
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = super.evictIfPresent(key);
+        if (isPersistent(key)) {
+            l2.delete(getName(), key.toString());
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        if (l2 != null) {
+            l2.clear(getName());
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = super.invalidate();
+        if (l2 != null) {
+            l2.clear(getName());
+        }
+        return invalidated;
+    }
+
+    /**
+     * L2에 저장된 최근 항목을 메모리에 미리 올리고, 올린 항목 수를 반환한다. (재시작 후 워밍업)
+     * 이미 메모리에 있는 항목은 덮어쓰지 않으며, 올린 항목은 첫 조회 시 백그라운드에서 다시 계산된다.
+     */
+    int warmUp(int limit) {
+        if (l2 == null) {
+            return 0;
+        }
+        int loaded = 0;
+        for (PersistentCacheStore.Stored<Object> stored : l2.recent(getName(), persistentType, limit)) {
+            if (stored.owner() == null || stored.repo() == null) {
+                continue;
+            }
+            RepoCacheKey key = RepoCacheKey.shared(stored.owner(), stored.repo());
+            if (getNativeCache().asMap().putIfAbsent(key, toStoreValue(stored.value())) == null) {
+                index.register(getName(), key);
+                markedForRefresh.add(key);
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 다음 조회 시 기존 값을 반환하면서 백그라운드에서 다시 계산하도록 표시한다. (캐시 워밍)
+     */
+    int markForRefresh(Collection<?> keys) {
+        int marked = 0;
+        for (Object key : keys) {
+            if (getNativeCache().policy().getIfPresentQuietly(key) != null) {
+                markedForRefresh.add(key);
+                marked++;
+            }
+        }
+        return marked;
+    }
+
+    private <T> T loadThrough(Object key, Callable<T> valueLoader) throws Exception {
+        if (isPersistent(key)) {
+            Optional<PersistentCacheStore.Stored<T>> stored = l2.get(getName(), key.toString(), persistentType);
+            if (stored.isPresent()) {
+                markedForRefresh.add(key);
+                return stored.get().value();
+            }
+        }
+        T value = valueLoader.call();
+        persist(key, value);
+        return value;
+    }
+
+    private void persist(Object key, Object value) {
+        if (isPersistent(key) && persistentType.getRawClass().isInstance(value) && !isPartial(value)) {
+            RepoCacheKey repoKey = (RepoCacheKey) key;
+            l2.put(getName(), repoKey.toString(), repoKey.owner(), repoKey.repo(), value, persistentType, persistentTtl);
+        }
+    }
+
+    /**
+     * 저장소 공유 키만 L2에 저장한다. (토큰별 키의 해시는 프로세스마다 salt가 달라 재시작 후 쓸 수 없다)
+     */
+    private boolean isPersistent(Object key) {
+        return l2 != null && key instanceof RepoCacheKey repoKey && repoKey.tokenHash() == null;
+    }
+
+    private boolean needsRefresh(Object key, Object value) {
+        if (markedForRefresh.contains(key)) {
+            return true;
+        }
+        Duration refreshAfter = isPartial(value) ? PARTIAL_REFRESH_AFTER : refreshAfterWrite;
+        if (refreshAfter == null) {
+            return false;
+        }
+        return getNativeCache().policy().expireAfterWrite()
+                .flatMap(expiration -> expiration.ageOf(key))
+                .map(age -> age.compareTo(refreshAfter) >= 0)
+                .orElse(false);
+    }
+
+    private static boolean isPartial(Object value) {
+        return value instanceof PartialCacheValue partial && partial.isPartial();
+    }
+
+    private <T> void refreshAsync(Object key, Callable<T> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        refreshExecutor.execute(() -> GithubRequestPriority.background(() -> {
+            try {
+                // 갱신을 시작한 시점의 값. 그 사이 무효화되거나 다른 요청이 새 값을 넣었으면 이번 결과는 버린다. (Caffeine refresh와 같은 규칙)
+                Object before = getNativeCache().policy().getIfPresentQuietly(key);
+                if (before == null) {
+                    return;
+                }
+                T value = valueLoader.call();
+                if (isPartial(value) && !isPartial(fromStoreValue(before))) {
+                    return;
+                }
+                if (getNativeCache().asMap().replace(key, before, toStoreValue(value))) {
+                    persist(key, value);
+                }
+            } catch (Exception e) {
+                log.debug("[RepoIndexedCaffeineCache] {} 캐시 {} 갱신 실패: {}", getName(), key, e.toString());
+            } finally {
+                markedForRefresh.remove(key);
+                refreshing.remove(key);
+            }
+        }));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.pipemate.cache;
+
+/**
+ * 재시작 후 L2(PersistentCacheStore)에서 메모리 캐시를 미리 채울 수 있는 캐시. (CacheWarmUp에서 호출)
+ */
+public interface WarmableCache {
+
+    /**
+     * 로그에 표시할 캐시 이름
+     */
+    String cacheName();
+
+    /**
+     * L2에 저장된 최근 항목을 최대 limit개 메모리에 올리고, 올린 항목 수를 반환한다.
+     */
+    int warmUp(int limit);
+}
@@ -0,0 +1,57 @@
+package com.example.pipemate.cache.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 2차(L2) 캐시 항목. 재시작 후에도 캐시를 바로 채울 수 있도록 값을 JSON으로 직렬화해 보관한다.
+ * <p>
+ * - id: {캐시 이름}|{캐시 키}
+ * - formatVersion / valueType: 직렬화 형식과 값의 타입. 현재 버전·타입과 다르면 읽지 않고 삭제한다.
+ * - payload: 직렬화한 값. DB마다 맞는 대용량 문자열 타입(H2·Oracle CLOB, MySQL LONGTEXT)이 되도록 @Lob으로 둔다.
+ */
+@Entity
+@Table(name = "cache_entry", indexes = {
+        @Index(name = "idx_cache_entry_cache_stored", columnList = "cache_name, stored_at"),
+        @Index(name = "idx_cache_entry_expires", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "id")
+public class PersistentCacheEntry {
+
+    @Id
+    @Column(length = 512)
+    private String id;
+
+    @Column(name = "cache_name", nullable = false, length = 100)
+    private String cacheName;
+
+    @Column(name = "cache_key", nullable = false, length = 400)
+    private String cacheKey;
+
+    private String owner;
+
+    private String repo;
+
+    @Column(name = "format_version", nullable = false)
+    private int formatVersion;
+
+    @Column(name = "value_type", nullable = false, length = 500)
+    private String valueType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "stored_at", nullable = false)
+    private Instant storedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,31 @@
+package com.example.pipemate.cache.repository;
+
+import com.example.pipemate.cache.entity.PersistentCacheEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface PersistentCacheEntryRepository extends JpaRepository<PersistentCacheEntry, String> {
+
+    /**
+     * 워밍업 대상: 만료되지 않은 항목을 최근 저장 순으로 조회
+     */
+    List<PersistentCacheEntry> findByCacheNameAndExpiresAtAfterOrderByStoredAtDesc(String cacheName, Instant now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from PersistentCacheEntry e where e.cacheName = :cacheName")
+    int deleteByCacheName(String cacheName);
+
+    @Transactional
+    @Modifying
+    @Query("delete from PersistentCacheEntry e where e.expiresAt < :now")
+    int deleteExpired(Instant now);
+}
@@ -0,0 +1,15 @@
+package com.example.pipemate.cache.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEntriesResponse {
+    private String cacheName;
+    private String owner;
+    private String repo;
+    private int affectedEntries;   // 무효화 또는 갱신 요청된 항목 수
+}
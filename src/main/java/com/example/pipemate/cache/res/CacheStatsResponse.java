@@ -0,0 +1,24 @@
+package com.example.pipemate.cache.res;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private String name;
+    private long estimatedSize;
+    private Long weightedSizeBytes;   // 크기 제한이 없는 캐시는 null
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long loadCount;
+    private long loadFailureCount;
+    private Map<RemovalCause, Long> removalsByCause;   // 원인별 제거 횟수 (EXPLICIT, EXPIRED, SIZE, REPLACED, COLLECTED)
+}
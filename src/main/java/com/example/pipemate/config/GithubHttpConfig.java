@@ -0,0 +1,123 @@
+package com.example.pipemate.config;
+
+import com.example.pipemate.util.GithubEtagCacheInterceptor;
+import com.example.pipemate.util.GithubRateLimiter;
+import com.example.pipemate.util.GithubRequestCoalescer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import javax.net.ssl.SSLContext;
+import java.net.http.HttpClient;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * GitHub API 호출에 사용하는 공용 HTTP 전송 계층 설정.
+ * <p>
+ * - JDK HttpClient 하나를 애플리케이션 전체에서 공유한다. (HTTP/2 멀티플렉싱, keep-alive 커넥션 재사용)
+ * - 같은 SSLContext를 공유하므로 TLS 세션이 재사용되어 매 요청마다 full handshake를 하지 않는다.
+ * - 연결/읽기 타임아웃을 명시하여 GitHub 응답이 멈춰도 톰캣 워커가 무한정 묶이지 않도록 한다.
+ */
+@Configuration
+public class GithubHttpConfig {
+
+    @Value("${pipemate.github.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${pipemate.github.http.read-timeout:20s}")
+    private Duration readTimeout;
+
+    @Value("${pipemate.github.http.log-read-timeout:120s}")
+    private Duration logReadTimeout;
+
+    @Value("${pipemate.github.http.max-pooled-connections:32}")
+    private int maxPooledConnections;
+
+    @Value("${pipemate.github.http.keep-alive:300s}")
+    private Duration keepAlive;
+
+    private final Executor httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * GitHub REST API 호출용 HttpClient (리다이렉트 자동 추적)
+     */
+    @Bean
+    public HttpClient githubHttpClient(SSLContext githubSslContext) {
+        configureConnectionPool();
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .sslContext(githubSslContext)
+                .executor(httpExecutor)
+                .build();
+    }
+
+    /**
+     * 모든 GitHub 클라이언트가 공유하는 SSLContext (TLS 세션 캐시 공유)
+     */
+    @Bean
+    public SSLContext githubSslContext() throws NoSuchAlgorithmException {
+        return SSLContext.getDefault();
+    }
+
+    /**
+     * 일반 GitHub REST API 호출용 RestTemplate.
+     * 동시에 들어온 동일한 GET 요청은 먼저 하나로 합쳐지고,
+     * 이후 모든 요청은 rate limit 스케줄러를 거치며, GET 응답은 ETag 조건부 요청 캐시를 거친다.
+     */
+    @Bean
+    public RestTemplate githubRestTemplate(HttpClient githubHttpClient,
+                                           GithubRequestCoalescer requestCoalescer,
+                                           GithubRateLimiter rateLimiter,
+                                           GithubEtagCacheInterceptor etagCacheInterceptor) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(githubHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(requestCoalescer);
+        restTemplate.getInterceptors().add(rateLimiter);
+        restTemplate.getInterceptors().add(etagCacheInterceptor);
+        return restTemplate;
+    }
+
+    /**
+     * 실행 로그(zip) 다운로드용 RestTemplate.
+     * 로그 API는 외부 스토리지 주소로 리다이렉트되므로, Authorization 헤더가 외부 호스트로 전달되지 않도록
+     * 리다이렉트를 자동으로 따라가지 않는 클라이언트를 사용하고 호출하는 쪽에서 Location을 직접 따라간다.
+     */
+    @Bean
+    public RestTemplate githubLogRestTemplate(SSLContext githubSslContext, GithubRateLimiter rateLimiter) {
+        configureConnectionPool();
+        HttpClient downloadClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .sslContext(githubSslContext)
+                .executor(httpExecutor)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(downloadClient);
+        requestFactory.setReadTimeout(logReadTimeout);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(rateLimiter);
+        return restTemplate;
+    }
+
+    /**
+     * JDK HttpClient의 HTTP/1.1 커넥션 풀 크기와 keep-alive 시간을 설정한다.
+     * (JDK가 첫 HttpClient 생성 시점에 읽는 시스템 속성이므로, 이미 지정된 값이 있으면 그대로 둔다)
+     */
+    private void configureConnectionPool() {
+        if (System.getProperty("jdk.httpclient.connectionPoolSize") == null) {
+            System.setProperty("jdk.httpclient.connectionPoolSize", String.valueOf(maxPooledConnections));
+        }
+        if (System.getProperty("jdk.httpclient.keepalive.timeout") == null) {
+            System.setProperty("jdk.httpclient.keepalive.timeout", String.valueOf(keepAlive.toSeconds()));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.pipemate.config;
+
+import com.example.pipemate.util.GithubFileConflictException;
+import com.example.pipemate.util.GithubRateLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 서비스 계층에서 RuntimeException으로 감싸진 예외 중 클라이언트에 그대로 전달해야 하는 예외를 꺼내어 응답한다.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * 원인(cause) 체인에 GitHub rate limit 예외가 있으면 429 + Retry-After로 응답한다.
+     * 파일 쓰기 충돌(If-Match 불일치) 예외가 있으면 412 + 현재 SHA(ETag)로 응답한다.
+     * 그 외 예외는 다시 던져 기본 오류 처리에 맡긴다.
+     */
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity<String> handleRuntimeException(RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof GithubRateLimitException rateLimit) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimit.getRetryAfterSeconds()))
+                        .body(rateLimit.getReason());
+            }
+            if (cause instanceof GithubFileConflictException conflict) {
+                return ResponseEntity.status(conflict.getStatusCode())
+                        .headers(conflict.getHeaders())
+                        .body(conflict.getReason());
+            }
+        }
+        throw e;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.pipemate.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정.
+ * <p>
+ * - 실행 이력 동기화처럼 여러 행을 한 번에 저장할 때 INSERT/UPDATE를 batch-size 단위로 묶어 보낸다.
+ * - 같은 테이블의 문장끼리 모이도록 정렬하여 배치가 중간에 끊기지 않게 한다.
+ * - IDENTITY 키를 쓰는 엔티티(프리셋 등)는 Hibernate가 INSERT 배치를 적용하지 않으므로 영향이 없다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Value("${pipemate.jpa.batch-size:100}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
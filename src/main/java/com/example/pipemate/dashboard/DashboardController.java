@@ -0,0 +1,40 @@
+package com.example.pipemate.dashboard;
+
+import com.example.pipemate.dashboard.res.DashboardRunsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping("/runs")
+    @Operation(summary = "여러 레포지토리의 최근 워크플로우 실행 통합 조회",
+            description = "repos(owner/repo를 쉼표로 구분) 또는 설정된 저장소 그룹(group)의 최근 실행을 병렬로 조회하여 생성 시각 역순으로 합친 뒤 최대 limit개를 반환합니다. "
+                    + "per_repo는 저장소별로 조회할 실행 수입니다. 일부 저장소 조회에 실패하면 partial=true와 함께 repos에 저장소별 결과를 표시합니다.")
+    public ResponseEntity<DashboardRunsResponse> getLatestRuns(
+            @RequestParam(required = false) List<String> repos,
+            @RequestParam(required = false) String group,
+            @RequestParam(name = "per_repo", defaultValue = "10") int perRepo,
+            @RequestParam(defaultValue = "50") int limit,
+            HttpServletRequest request
+    ) {
+        String token = request.getHeader("Authorization");
+        if (token == null || !token.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Authorization header must be provided in 'Bearer ghp_xxx' format");
+        }
+        String cleanToken = token.substring("Bearer ".length()).trim();
+        return ResponseEntity.ok(dashboardService.getLatestRuns(repos, group, perRepo, limit, cleanToken));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.pipemate.dashboard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대시보드 설정. (pipemate.dashboard.*)
+ * <p>
+ * - groups: 이름으로 조회할 수 있는 저장소 묶음 (예: pipemate.dashboard.groups.backend=org/api,org/worker)
+ * - max-repos: 한 번에 조회할 수 있는 최대 저장소 수
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pipemate.dashboard")
+public class DashboardProperties {
+
+    private Map<String, List<String>> groups = new LinkedHashMap<>();
+
+    private int maxRepos = 100;
+}
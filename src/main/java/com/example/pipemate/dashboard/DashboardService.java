@@ -0,0 +1,175 @@
+package com.example.pipemate.dashboard;
+
+import com.example.pipemate.dashboard.res.DashboardRunsResponse;
+import com.example.pipemate.util.GithubApiClient;
+import com.example.pipemate.util.GithubFanOutExecutor;
+import com.example.pipemate.workflow.WorkflowRunQuery;
+import com.example.pipemate.workflow.res.WorkflowRunListResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * 여러 저장소의 최근 워크플로우 실행을 한 번에 모아 보여준다.
+ * <p>
+ * - 저장소별 조회는 GithubFanOutExecutor로 병렬 실행한다. (토큰별 동시 실행 수 제한, 전체 마감 시간)
+ * - 같은 조건의 조회는 같은 URL이 되므로 ETag 캐시(변경 없으면 304)와 동일 요청 합치기가 그대로 적용된다.
+ * - 저장소별 결과는 이미 생성 시각 역순이므로 k-way merge로 합쳐 상위 limit개만 만든다.
+ * - 일부 저장소 조회가 실패해도 나머지 결과로 응답하고, 실패한 저장소와 사유는 repos에 표시한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private static final Pattern REPOSITORY = Pattern.compile("[A-Za-z0-9._-]+/[A-Za-z0-9._-]+");
+
+    private final GithubApiClient githubApiClient;
+    private final GithubFanOutExecutor fanOutExecutor;
+    private final DashboardProperties properties;
+
+    public DashboardRunsResponse getLatestRuns(List<String> repos, String group, int perRepo, int limit, String token) {
+        if (perRepo < 1 || perRepo > WorkflowRunQuery.MAX_PER_PAGE || limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "per_repo는 1~" + WorkflowRunQuery.MAX_PER_PAGE + ", limit은 1 이상이어야 합니다.");
+        }
+        List<String> repositories = resolveRepositories(repos, group);
+        Map<String, String> params = WorkflowRunQuery.created(null, null, perRepo, 1).toParams();
+
+        List<RepoRuns> results = fanOutExecutor.mapOrdered(token, repositories,
+                repository -> {
+                    String[] parts = repository.split("/", 2);
+                    WorkflowRunListResponse body = githubApiClient.fetchWorkflowRunsPage(parts[0], parts[1], params, token).body();
+                    List<WorkflowRunListResponse.WorkflowRun> runs = body.getWorkflowRuns() == null ? List.of() : body.getWorkflowRuns();
+                    return new RepoRuns(repository, runs, null);
+                },
+                (repository, cause) -> {
+                    log.warn("[DashboardService] {} 실행 목록 조회 실패: {}", repository, cause.toString());
+                    return new RepoRuns(repository, List.of(), cause);
+                });
+
+        List<DashboardRunsResponse.RepoStatus> statuses = results.stream().map(this::toStatus).toList();
+        return DashboardRunsResponse.builder()
+                .runs(merge(results, limit))
+                .repos(statuses)
+                .partial(statuses.stream().anyMatch(status -> !status.isOk()))
+                .build();
+    }
+
+    /**
+     * repos와 group의 저장소를 합친다. (입력 순서 유지, 중복 제거)
+     */
+    private List<String> resolveRepositories(List<String> repos, String group) {
+        Set<String> repositories = new LinkedHashSet<>();
+        if (group != null) {
+            List<String> members = properties.getGroups().get(group);
+            if (members == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "저장소 그룹을 찾을 수 없습니다: " + group);
+            }
+            members.forEach(member -> repositories.add(member.trim()));
+        }
+        if (repos != null) {
+            repos.forEach(repository -> repositories.add(repository.trim()));
+        }
+        repositories.remove("");
+
+        if (repositories.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "repos 또는 group을 지정해야 합니다.");
+        }
+        if (repositories.size() > properties.getMaxRepos()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 저장소는 최대 " + properties.getMaxRepos() + "개입니다.");
+        }
+        for (String repository : repositories) {
+            if (!REPOSITORY.matcher(repository).matches()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "저장소는 owner/repo 형식이어야 합니다: " + repository);
+            }
+        }
+        return List.copyOf(repositories);
+    }
+
+    /**
+     * 저장소별로 생성 시각 역순 정렬된 목록을 합쳐 전체에서 최신 limit개를 만든다.
+     * GitHub의 시각(ISO-8601, UTC 'Z')은 문자열 비교로 순서를 판단할 수 있다.
+     */
+    private List<DashboardRunsResponse.DashboardRun> merge(List<RepoRuns> results, int limit) {
+        Comparator<Head> newestFirst = Comparator
+                .comparing((Head head) -> head.run().getCreatedAt(), Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                .thenComparingLong(head -> head.run().getId())
+                .reversed();
+        PriorityQueue<Head> heads = new PriorityQueue<>(Math.max(1, results.size()), newestFirst);
+        for (RepoRuns result : results) {
+            if (!result.runs().isEmpty()) {
+                heads.add(new Head(result, 0));
+            }
+        }
+
+        List<DashboardRunsResponse.DashboardRun> merged = new ArrayList<>(Math.min(limit, 256));
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Head head = heads.poll();
+            merged.add(new DashboardRunsResponse.DashboardRun(head.source().repository(), head.run()));
+            if (head.position() + 1 < head.source().runs().size()) {
+                heads.add(new Head(head.source(), head.position() + 1));
+            }
+        }
+        return merged;
+    }
+
+    private DashboardRunsResponse.RepoStatus toStatus(RepoRuns result) {
+        DashboardRunsResponse.RepoStatus.RepoStatusBuilder status = DashboardRunsResponse.RepoStatus.builder()
+                .repository(result.repository())
+                .ok(result.failure() == null)
+                .runCount(result.runs().size());
+        if (result.failure() != null) {
+            status.status(statusCode(result.failure())).error(reason(result.failure()));
+        }
+        return status.build();
+    }
+
+    private Integer statusCode(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpStatusCodeException e) {
+                return e.getStatusCode().value();
+            }
+            if (cause instanceof ResponseStatusException e) {
+                return e.getStatusCode().value();
+            }
+        }
+        return null;
+    }
+
+    private String reason(Throwable failure) {
+        if (failure instanceof TimeoutException) {
+            return "시간 초과";
+        }
+        Integer status = statusCode(failure);
+        if (status == null) {
+            return "조회 실패";
+        }
+        return switch (status) {
+            case 401, 403 -> "접근 권한 없음";
+            case 404 -> "저장소를 찾을 수 없음";
+            case 429 -> "GitHub 호출 한도 초과";
+            default -> "GitHub 오류 (" + status + ")";
+        };
+    }
+
+    private record RepoRuns(String repository, List<WorkflowRunListResponse.WorkflowRun> runs, Throwable failure) {
+    }
+
+    /**
+     * k-way merge에서 저장소 목록 하나의 현재 위치
+     */
+    private record Head(RepoRuns source, int position) {
+
+        WorkflowRunListResponse.WorkflowRun run() {
+            return source.runs().get(position);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.pipemate.dashboard.res;
+
+import com.example.pipemate.workflow.res.WorkflowRunListResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여러 저장소의 최근 실행을 생성 시각 역순으로 합친 결과와 저장소별 조회 결과
+ */
+@Builder
+@Getter
+public class DashboardRunsResponse {
+
+    private List<DashboardRun> runs;
+
+    private List<RepoStatus> repos;
+
+    /**
+     * 일부 저장소 조회에 실패했는지 여부
+     */
+    private boolean partial;
+
+    @Getter
+    @AllArgsConstructor
+    public static class DashboardRun {
+        private String repository;
+        private WorkflowRunListResponse.WorkflowRun run;
+    }
+
+    @Builder
+    @Getter
+    public static class RepoStatus {
+        private String repository;
+        private boolean ok;
+        private int runCount;
+
+        /**
+         * 실패한 경우 GitHub 응답 상태 코드 (시간 초과 등 응답이 없으면 null)와 사유
+         */
+        private Integer status;
+        private String error;
+    }
+}
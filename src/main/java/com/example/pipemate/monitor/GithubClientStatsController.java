@@ -0,0 +1,27 @@
+package com.example.pipemate.monitor;
+
+import com.example.pipemate.monitor.res.GithubClientStatsResponse;
+import com.example.pipemate.util.GithubEtagCacheInterceptor;
+import com.example.pipemate.util.GithubRequestCoalescer;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/monitor")
+@RequiredArgsConstructor
+public class GithubClientStatsController {
+
+    private final GithubRequestCoalescer requestCoalescer;
+    private final GithubEtagCacheInterceptor etagCacheInterceptor;
+
+    @GetMapping("/github-client")
+    @Operation(summary = "GitHub API 클라이언트 통계 조회",
+            description = "동일 요청 합치기(single-flight)로 줄어든 호출 수와 ETag 조건부 요청 캐시 적중 현황을 반환합니다.")
+    public ResponseEntity<GithubClientStatsResponse> getGithubClientStats() {
+        return ResponseEntity.ok(new GithubClientStatsResponse(requestCoalescer.stats(), etagCacheInterceptor.stats()));
+    }
+}
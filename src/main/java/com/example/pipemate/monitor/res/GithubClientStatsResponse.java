@@ -0,0 +1,15 @@
+package com.example.pipemate.monitor.res;
+
+import com.example.pipemate.util.GithubEtagCacheInterceptor;
+import com.example.pipemate.util.GithubRequestCoalescer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GithubClientStatsResponse {
+    private GithubRequestCoalescer.Stats coalescing;
+    private GithubEtagCacheInterceptor.Stats etagCache;
+}
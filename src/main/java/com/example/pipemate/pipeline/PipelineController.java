@@ -1,11 +1,14 @@
 package com.example.pipemate.pipeline;
 
+import com.example.pipemate.pipeline.req.PipelineBulkRequest;
 import com.example.pipemate.pipeline.req.PipelineRequest;
+import com.example.pipemate.pipeline.res.PipelineBulkResponse;
 import com.example.pipemate.pipeline.res.PipelineResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -38,9 +41,33 @@ public class PipelineController {
         return ResponseEntity.ok().body("Workflow conversion and upload on github successful");
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "여러 파이프라인(워크플로우)을 YML로 변환해 하나의 커밋으로 깃허브에 저장(생성·수정)",
+            description = "워크플로우마다 커밋을 만들지 않고 기본 브랜치에 커밋 하나만 올립니다. (push 트리거도 한 번만 실행) "
+                    + "GitHub의 내용과 같은 워크플로우는 커밋에서 제외되며, 모두 같으면 커밋하지 않습니다. "
+                    + "그 사이 브랜치에 다른 커밋이 올라오면 그 위에서 다시 커밋하고, 계속 실패하면 409를 반환합니다.")
+    public ResponseEntity<PipelineBulkResponse> saveWorkflowsInOneCommit(
+            @RequestBody PipelineBulkRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        String token = httpRequest.getHeader("Authorization");
+
+        log.info("Saving workflows in one commit for owner: {}, repo: {}", request.getOwner(), request.getRepo());
+
+        if (token == null || !token.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Authorization header must be provided in 'Bearer ghp_xxx' format");
+        }
+
+        String cleanToken = token.substring("Bearer ".length()).trim();
+
+        PipelineBulkResponse response = pipelineService.saveWorkflowsInOneCommit(request, cleanToken);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{ymlFileName}")
     @Operation(summary = "특정 파이프라인(워크플로우)을 블록 리스트 형태로 조회",
-            description = "Github에 저장된 특정 파이프라인(워크플로우) 정보를 블록 형태로 가공하여 반환합니다. yml 파일의 확장자는 생략합니다.")
+            description = "Github에 저장된 특정 파이프라인(워크플로우) 정보를 블록 형태로 가공하여 반환합니다. yml 파일의 확장자는 생략합니다. "
+                    + "응답의 sha(ETag 헤더와 같은 값)를 수정·삭제 요청의 If-Match 헤더로 보내면 그 사이 GitHub에서 파일이 바뀐 경우 412로 거절됩니다.")
     public ResponseEntity<PipelineResponse> getStoredWorkflow(
             @PathVariable String ymlFileName,
             @RequestParam String owner,
@@ -52,14 +79,18 @@ public class PipelineController {
         String cleanToken = token.substring("Bearer ".length()).trim();
 
         PipelineResponse response = pipelineService.getWorkflowFromGitHub(owner, repo, ymlFileName, cleanToken);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(response.getSha())
+                .body(response);
     }
 
     @PutMapping
     @Operation(summary = "깃허브에 저장된 특정 파이프라인(워크플로우) 업데이트",
-            description = "*변경하고자 하는 이름의 파이프라인(워크플로우)이 GitHub에 존재하는 경우 에러를 발생시킵니다.")
+            description = "*변경하고자 하는 이름의 파이프라인(워크플로우)이 GitHub에 존재하는 경우 에러를 발생시킵니다. "
+                    + "응답의 sha(ETag 헤더와 같은 값)는 저장된 파일의 새 blob SHA로, 이어지는 수정·삭제 요청의 If-Match로 사용합니다.")
     public ResponseEntity<PipelineResponse> updateStoredWorkflow(
             @RequestBody PipelineRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest httpRequest
     ) {
         String token = httpRequest.getHeader("Authorization");
@@ -72,8 +103,10 @@ public class PipelineController {
 
         String cleanToken = token.substring("Bearer ".length()).trim();
 
-        PipelineResponse response = pipelineService.updateWorkflowOnGitHub(request, cleanToken);
-        return ResponseEntity.ok(response);
+        PipelineResponse response = pipelineService.updateWorkflowOnGitHub(request, parseIfMatch(ifMatch), cleanToken);
+        return ResponseEntity.ok()
+                .eTag(response.getSha())
+                .body(response);
     }
 
     @DeleteMapping("/{ymlFileName}")
@@ -83,6 +116,7 @@ public class PipelineController {
             @PathVariable String ymlFileName,
             @RequestParam String owner,
             @RequestParam String repo,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest httpRequest
     ) {
         String token = httpRequest.getHeader("Authorization");
@@ -95,7 +129,21 @@ public class PipelineController {
 
         String cleanToken = token.substring("Bearer ".length()).trim();
 
-        pipelineService.deleteWorkflowFromGitHub(ymlFileName, owner, repo, cleanToken);
+        pipelineService.deleteWorkflowFromGitHub(ymlFileName, owner, repo, parseIfMatch(ifMatch), cleanToken);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * If-Match 헤더에서 SHA를 꺼낸다. (따옴표, W/ 접두사 제거, 없거나 "*"이면 null)
+     */
+    private String parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String sha = ifMatch.trim();
+        if (sha.startsWith("W/")) {
+            sha = sha.substring(2);
+        }
+        return sha.replace("\"", "");
+    }
+}
@@ -1,17 +1,22 @@
 package com.example.pipemate.pipeline;
 
+import com.example.pipemate.cache.RepoCacheInvalidator;
 import com.example.pipemate.pipeline.converter.*;
+import com.example.pipemate.pipeline.req.PipelineBulkRequest;
 import com.example.pipemate.pipeline.req.PipelineRequest;
+import com.example.pipemate.pipeline.res.PipelineBulkResponse;
 import com.example.pipemate.pipeline.res.PipelineResponse;
-import com.example.pipemate.util.GithubApiClient;
+import com.example.pipemate.util.*;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
-import java.util.Map;
+import java.io.StringReader;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -21,30 +26,33 @@ public class PipelineService {
     private final GithubApiClient githubApiClient;
     private final JsonWorkflowConverter jsonWorkflowConverter;
     private final YamlConverter yamlConverter;
+    private final WorkflowYamlEmitter workflowYamlEmitter;
+    private final RepoCacheInvalidator repoCacheInvalidator;
+    private final GithubFileShaCache fileShaCache;
+    private final GithubRepoAccessVerifier accessVerifier;
+    private final GithubFanOutExecutor fanOutExecutor;
+
+    @Value("${pipemate.github.bulk-commit.max-workflows:50}")
+    private int bulkMaxWorkflows;
+
+    @Value("${pipemate.github.bulk-commit.max-attempts:3}")
+    private int bulkMaxAttempts;
 
     /**
      * 요청받은 블록 기반 JSON 워크플로우 데이터를 GitHub Actions 워크플로우(YAML) 파일로 변환하여 업로드한다.
      * <p>
      * 처리 단계:
-     * 1. JSON → GitHub Actions 워크플로우 JSON 구조로 변환
-     * 2. JSON → YAML 변환
-     * 3. 변환된 YAML을 `.github/workflows/` 경로에 파일로 업로드
+     * 1. 블록 기반 JSON → YAML 변환 (WorkflowYamlEmitter가 중간 JSON/Map 없이 한 번에 출력, x_* 키는 주석으로 남김)
+     * 2. 변환된 YAML을 `.github/workflows/` 경로에 파일로 업로드
      */
-    @CacheEvict(value = "workflow-file-list", allEntries = true) // 깃허브 워크플로우 파일 목록 캐싱 초기화
     public void convertAndSaveWorkflow(PipelineRequest request, String token) {
         try {
             log.info("Starting workflow conversion process for {}/{}", request.getOwner(), request.getRepo());
 
-            // 1. JSON 수동 변환 (input.json -> res_input.json)
-            Map<String, Object> convertedJson = jsonWorkflowConverter.convertToWorkflowJson(request.getInputJson());
-
-            // 2. YAML 자동 변환 (snakeYAML 사용)
-            String yamlContent = yamlConverter.convertJsonToYaml(convertedJson);
-
-            // 3. x_* 키를 주석으로 남김 (하위 블록 포함)
-            yamlContent = YamlXStripAndComment.transform(yamlContent);
+            // 1. 블록 → YAML 변환 (x_* 키는 주석으로 남김, 하위 블록 포함)
+            String yamlContent = workflowYamlEmitter.toYaml(request.getInputJson());
 
-            // 4. GitHub에 YAML 파일 업로드
+            // 2. GitHub에 YAML 파일 업로드
             String filePath = ".github/workflows/" + request.getWorkflowName() + ".yml";
             githubApiClient.createFile(
                     request.getOwner(),
@@ -57,6 +65,9 @@ public class PipelineService {
 
             log.info("Workflow uploaded to GitHub at path: {}", filePath);
 
+            // 3. 해당 저장소의 워크플로우 파일 목록 캐시만 무효화
+            repoCacheInvalidator.invalidate(request.getOwner(), request.getRepo(), "workflow-file-list");
+
         } catch (Exception e) {
             log.error("Error during workflow conversion process", e);
             throw new RuntimeException("Failed to convert and upload workflow: " + e.getMessage(), e);
@@ -77,14 +88,13 @@ public class PipelineService {
         try {
             String path = ".github/workflows/" + workflowName + ".yml";
 
-            // 1. GitHub에서 YML 가져오기
-            String yamlContent = githubApiClient.getFileContent(owner, repo, path, token);
-
-            // 2. 주석(#) 처리된 x_ 키와 step을 복구
-            String uncommented = YamlHashUncommenter.transform(yamlContent);
+            // 1. GitHub에서 YML 가져오기 (수정·삭제 시 If-Match로 쓸 SHA 포함)
+            GithubApiClient.GithubFile file = githubApiClient.getFile(owner, repo, path, token);
+            String yamlContent = file.content();
 
-            // 3. YAML → 일반 JSON Map
-            Map<String, Object> convertedJson = yamlConverter.convertYamlToJson(uncommented);
+            // 2~3. 주석(#) 처리된 x_ 키와 step을 읽으면서 복구하고 YAML → 일반 JSON Map
+            Map<String, Object> convertedJson = yamlConverter.convertYamlToJson(
+                    YamlHashUncommenter.uncommentingReader(new StringReader(yamlContent)));
 
             // 4. 일반 JSON → 블록 기반 JSON
             List<JsonNode> originalJson = jsonWorkflowConverter.convertWorkflowJsonToBlocks(convertedJson);
@@ -93,6 +103,7 @@ public class PipelineService {
             return PipelineResponse.builder()
                     .workflowName(workflowName)
                     .originalJson(originalJson)          // 이제 블록기반 JSON 포함
+                    .sha(file.sha())
                     .success(true)
                     .message("Workflow loaded and parsed from GitHub")
                     .build();
@@ -106,43 +117,60 @@ public class PipelineService {
      * GitHub에 저장된 특정 워크플로우(YAML) 파일을 업데이트한다.
      * <p>
      * 처리 순서:
-     * 1. 입력으로 받은 블록 기반 JSON(workflow 블록 구조)을 GitHub Actions 호환 JSON으로 변환
-     * 2. JSON을 YAML 포맷으로 변환
-     * 3. 변환된 YAML 파일을 `.github/workflows/{workflowName}.yml` 경로에 덮어쓰기 방식으로 업로드
-     * 4. 캐시되어 있던 워크플로우 목록(`workflow-file-list`)은 무효화(@CacheEvict) 처리
+     * 1~2. 입력으로 받은 블록 기반 JSON(workflow 블록 구조)을 GitHub Actions 워크플로우 YAML로 변환 (WorkflowYamlEmitter)
+     * 3. 변환된 YAML의 git blob SHA를 로컬에서 계산해 GitHub에 있는 파일의 SHA와 같으면 업로드하지 않고 바로 반환
+     *    (expectedSha(If-Match)가 원격 SHA와 다르면 내용이 같아도 4로 넘어가 412로 거절)
+     *    (원격 SHA는 파일 SHA 캐시 → 없으면 워크플로우 디렉터리 목록 조회(ETag 조건부 요청) 순으로 확인)
+     * 4. 변환된 YAML 파일을 `.github/workflows/{workflowName}.yml` 경로에 덮어쓰기 방식으로 업로드
+     *    (expectedSha(If-Match)가 있으면 그 SHA로 바로 덮어쓰고, GitHub의 파일이 그 사이 바뀌었으면 412로 거절)
+     * 5. 캐시되어 있던 해당 저장소의 워크플로우 목록(`workflow-file-list`)은 무효화 처리
      */
-    @CacheEvict(value = "workflow-file-list", allEntries = true) // 깃허브 워크플로우 파일 목록 캐싱 초기화
-    public PipelineResponse updateWorkflowOnGitHub(PipelineRequest request, String token) {
+    public PipelineResponse updateWorkflowOnGitHub(PipelineRequest request, String expectedSha, String token) {
         try {
             log.info("Updating GitHub workflow for {}/{}", request.getOwner(), request.getRepo());
 
-            // 1. JSON 변환
-            Map<String, Object> convertedJson = jsonWorkflowConverter.convertToWorkflowJson(request.getInputJson());
-
-            // 2. YAML 변환
-            String yamlContent = yamlConverter.convertJsonToYaml(convertedJson);
+            // 1~2. 블록 → YAML 변환 (x_* 키는 주석으로 남김, 하위 블록 포함)
+            String yamlContent = workflowYamlEmitter.toYaml(request.getInputJson());
 
-            // 3. x_* 키를 주석으로 남김 (하위 블록 포함)
-            yamlContent = YamlXStripAndComment.transform(yamlContent);
-
-            // 4. GitHub에 업로드 (덮어쓰기)
             // workflowName 와 ymlFileName 은 같은 의미이다.
             String filePath = ".github/workflows/" + request.getWorkflowName() + ".yml";
-            githubApiClient.updateFile(
+
+            // 4. 내용이 같으면 커밋을 만들지 않는다. (자동 저장 등으로 같은 내용이 반복 저장되는 경우)
+            //    단, If-Match SHA가 원격 SHA와 다르면 건너뛰지 않고 업로드로 넘겨 412(충돌)로 거절되게 한다.
+            String yamlSha = GitBlobSha.of(yamlContent);
+            String remoteSha = remoteBlobSha(request.getOwner(), request.getRepo(), filePath, token);
+            if (yamlSha.equals(remoteSha) && (expectedSha == null || expectedSha.equals(remoteSha))) {
+                log.info("Workflow unchanged, skipped upload: {}", filePath);
+                return PipelineResponse.builder()
+                        .workflowName(request.getWorkflowName())
+                        .originalJson(request.getInputJson())
+                        .sha(yamlSha)
+                        .success(true)
+                        .message("Workflow unchanged on GitHub; upload skipped")
+                        .build();
+            }
+
+            // 5. GitHub에 업로드 (덮어쓰기)
+            String writtenSha = githubApiClient.updateFile(
                     request.getOwner(),
                     request.getRepo(),
                     filePath,
                     yamlContent,
                     "Update workflow: " + request.getWorkflowName(),
+                    expectedSha,
                     token
             );
 
             log.info("Workflow updated and uploaded to GitHub at {}", filePath);
 
+            // 6. 해당 저장소의 워크플로우 파일 목록 캐시만 무효화
+            repoCacheInvalidator.invalidate(request.getOwner(), request.getRepo(), "workflow-file-list");
+
             return PipelineResponse.builder()
                     .workflowId(null)  // DB 사용 안 하므로 null
                     .workflowName(request.getWorkflowName())
                     .originalJson(request.getInputJson())
+                    .sha(writtenSha)
                     .success(true)
                     .message("Workflow successfully updated on GitHub")
                     .build();
@@ -153,15 +181,170 @@ public class PipelineService {
         }
     }
 
-    @CacheEvict(value = "workflow-file-list", allEntries = true) // 깃허브 워크플로우 파일 목록 캐싱 초기화
-    public void deleteWorkflowFromGitHub(String ymlFileName, String owner, String repo, String token) {
+    /**
+     * 여러 워크플로우를 한 번에 변환해 하나의 커밋으로 저장한다. (Git Data API)
+     * <p>
+     * 파일마다 Contents API로 PUT하면 파일 수만큼 커밋이 생기고(push 트리거도 그만큼 실행), 같은 브랜치 쓰기가 GitHub에서 직렬화된다.
+     * 대신 아래 순서로 커밋 하나만 만든다.
+     * 1. 블록 기반 JSON → YAML 변환을 병렬로 수행
+     * 2. 변환된 YAML의 blob SHA를 워크플로우 디렉터리 목록(ETag 조건부 요청)과 비교해 내용이 같은 파일은 제외 (모두 같으면 커밋하지 않음)
+     * 3. 바뀐 파일만 blob으로 동시에 업로드 (GithubFanOutExecutor, 토큰별 동시 실행 수 제한)
+     * 4. 기본 브랜치 끝 커밋의 트리 위에 새 트리 → 커밋을 만들고 브랜치를 fast-forward로 한 번 이동
+     *    (그 사이 다른 커밋이 올라가 거절되면 새 브랜치 끝에서 트리·커밋만 다시 만들어 max-attempts까지 재시도, blob은 재사용)
+     */
+    public PipelineBulkResponse saveWorkflowsInOneCommit(PipelineBulkRequest request, String token) {
+        String owner = request.getOwner();
+        String repo = request.getRepo();
+        List<PipelineBulkRequest.Workflow> workflows = validateBulkRequest(request);
+        log.info("Saving {} workflows in one commit for {}/{}", workflows.size(), owner, repo);
+
+        // 1. 변환 (워크플로우마다 독립적이므로 병렬)
+        List<String> yamlContents = workflows.parallelStream()
+                .map(workflow -> workflowYamlEmitter.toYaml(workflow.getInputJson()))
+                .toList();
+
+        // 2. GitHub에 있는 내용과 같은 파일은 제외
+        Map<String, String> remoteShas = githubApiClient.fetchDirectoryBlobShas(owner, repo, ".github/workflows", token);
+        List<String> updated = new ArrayList<>();
+        List<String> unchanged = new ArrayList<>();
+        Map<String, String> changedContentByPath = new LinkedHashMap<>();
+        for (int i = 0; i < workflows.size(); i++) {
+            String workflowName = workflows.get(i).getWorkflowName();
+            String filePath = ".github/workflows/" + workflowName + ".yml";
+            if (GitBlobSha.of(yamlContents.get(i)).equals(remoteShas.get(filePath))) {
+                unchanged.add(workflowName);
+            } else {
+                updated.add(workflowName);
+                changedContentByPath.put(filePath, yamlContents.get(i));
+            }
+        }
+
+        String branch = githubApiClient.getDefaultBranch(owner, repo, token);
+        if (changedContentByPath.isEmpty()) {
+            log.info("All workflows unchanged, skipped commit for {}/{}", owner, repo);
+            return PipelineBulkResponse.builder()
+                    .branch(branch)
+                    .updated(updated)
+                    .unchanged(unchanged)
+                    .success(true)
+                    .message("All workflows unchanged on GitHub; commit skipped")
+                    .build();
+        }
+
+        // 3. blob 동시 업로드
+        Map<String, String> blobShaByPath = uploadBlobs(owner, repo, changedContentByPath, token);
+
+        // 4. 트리 → 커밋 → 브랜치 이동 (fast-forward 실패 시 재시도)
+        String message = request.getMessage() != null && !request.getMessage().isBlank()
+                ? request.getMessage()
+                : "Update workflows: " + String.join(", ", updated);
+        String commitSha = commitTree(owner, repo, branch, blobShaByPath, message, token);
+        log.info("Workflows committed to {}/{}@{}: {} ({})", owner, repo, branch, commitSha, updated);
+
+        // 5. 새 blob SHA를 파일 SHA 캐시에 기록하고 워크플로우 파일 목록 캐시만 무효화
+        blobShaByPath.forEach((path, sha) -> fileShaCache.put(owner, repo, path, sha));
+        repoCacheInvalidator.invalidate(owner, repo, "workflow-file-list");
+
+        return PipelineBulkResponse.builder()
+                .commitSha(commitSha)
+                .branch(branch)
+                .updated(updated)
+                .unchanged(unchanged)
+                .success(true)
+                .message("Workflows committed to GitHub in one commit")
+                .build();
+    }
+
+    private List<PipelineBulkRequest.Workflow> validateBulkRequest(PipelineBulkRequest request) {
+        List<PipelineBulkRequest.Workflow> workflows = request.getWorkflows();
+        if (workflows == null || workflows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "workflows가 비어 있습니다.");
+        }
+        if (workflows.size() > bulkMaxWorkflows) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 저장할 수 있는 워크플로우는 최대 " + bulkMaxWorkflows + "개입니다.");
+        }
+        Set<String> names = new HashSet<>();
+        for (PipelineBulkRequest.Workflow workflow : workflows) {
+            String name = workflow.getWorkflowName();
+            if (name == null || name.isBlank() || workflow.getInputJson() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "workflowName과 inputJson은 필수입니다.");
+            }
+            if (!names.add(name)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "중복된 workflowName입니다: " + name);
+            }
+        }
+        return workflows;
+    }
+
+    /**
+     * 파일들을 blob으로 동시에 올린다. 하나라도 실패하면 커밋을 만들지 않고 예외를 던진다.
+     */
+    private Map<String, String> uploadBlobs(String owner, String repo, Map<String, String> contentByPath, String token) {
+        List<String> paths = List.copyOf(contentByPath.keySet());
+        List<String> blobShas = fanOutExecutor.mapOrdered(token, paths,
+                path -> githubApiClient.createBlob(owner, repo, contentByPath.get(path), token),
+                (path, cause) -> {
+                    log.warn("[PipelineService] {} blob 업로드 실패: {}", path, cause.toString());
+                    return null;
+                });
+
+        Map<String, String> blobShaByPath = new LinkedHashMap<>();
+        for (int i = 0; i < paths.size(); i++) {
+            if (blobShas.get(i) == null) {
+                throw new RuntimeException("Failed to upload workflow blob: " + paths.get(i));
+            }
+            blobShaByPath.put(paths.get(i), blobShas.get(i));
+        }
+        return blobShaByPath;
+    }
+
+    /**
+     * 브랜치 끝 커밋 위에 새 트리와 커밋을 만들고 브랜치를 옮긴다.
+     * 그 사이 브랜치가 앞서 나가 fast-forward가 거절되면 새 브랜치 끝에서 다시 만든다. (덮어쓰지 않는다)
+     */
+    private String commitTree(String owner, String repo, String branch, Map<String, String> blobShaByPath,
+                              String message, String token) {
+        for (int attempt = 1; attempt <= bulkMaxAttempts; attempt++) {
+            GithubApiClient.GitBranchHead head = githubApiClient.getBranchHead(owner, repo, branch, token);
+            String treeSha = githubApiClient.createTree(owner, repo, head.treeSha(), blobShaByPath, token);
+            String commitSha = githubApiClient.createCommit(owner, repo, message, treeSha, head.commitSha(), token);
+            if (githubApiClient.fastForwardBranch(owner, repo, branch, commitSha, token)) {
+                return commitSha;
+            }
+            log.info("Branch {} moved during bulk commit, retrying ({}/{})", branch, attempt, bulkMaxAttempts);
+        }
+        throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "브랜치에 다른 커밋이 계속 올라와 커밋하지 못했습니다. 잠시 후 다시 시도하세요: " + branch);
+    }
+
+    /**
+     * GitHub에 있는 파일의 blob SHA. 캐시에 없으면 워크플로우 디렉터리 목록으로 확인한다. (파일이 없으면 null)
+     * 캐시된 값을 쓸 때는 요청한 토큰의 저장소 접근 권한을 먼저 확인한다.
+     */
+    private String remoteBlobSha(String owner, String repo, String filePath, String token) {
+        String cached = fileShaCache.get(owner, repo, filePath);
+        if (cached != null) {
+            accessVerifier.verify(owner, repo, token);
+            return cached;
+        }
+        return githubApiClient.fetchDirectoryBlobShas(owner, repo, ".github/workflows", token).get(filePath);
+    }
+
+    /**
+     * GitHub에 저장된 워크플로우(YAML) 파일을 삭제한다.
+     * expectedSha(If-Match)가 있으면 GitHub의 파일이 그 사이 바뀐 경우 삭제하지 않고 412로 거절한다.
+     */
+    public void deleteWorkflowFromGitHub(String ymlFileName, String owner, String repo, String expectedSha, String token) {
         try {
             // GitHub에서 파일 삭제
             String filePath = ".github/workflows/" + ymlFileName + ".yml";
-            githubApiClient.deleteFile(owner, repo, filePath, "Delete workflow: " + ymlFileName, token);
+            githubApiClient.deleteFile(owner, repo, filePath, "Delete workflow: " + ymlFileName, expectedSha, token);
 
             log.info("Workflow deleted from GitHub: {}", filePath);
 
+            // 해당 저장소의 워크플로우 파일 목록 캐시만 무효화
+            repoCacheInvalidator.invalidate(owner, repo, "workflow-file-list");
+
         } catch (Exception e) {
             log.error("Error during GitHub workflow deletion process", e);
             throw new RuntimeException("Failed to delete workflow from GitHub: " + e.getMessage(), e);
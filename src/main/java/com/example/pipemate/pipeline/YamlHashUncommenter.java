@@ -1,13 +1,13 @@
 package com.example.pipemate.pipeline;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import com.example.pipemate.pipeline.converter.YamlLineScanner;
+
+import java.io.Reader;
 
 public final class YamlHashUncommenter {
 
-    // 선행 공백들 + '#' + (선택) 공백 1칸 + 나머지
-    private static final Pattern LEADING_HASH_ONCE =
-            Pattern.compile("^(\\s*)#( ?)(.*)$");
+    // 줄마다 "선행 공백들 + '#' + (선택) 공백 1칸 + 나머지"(정규식 ^(\s*)#( ?)(.*)$)를 문자 단위로 판정한다
+    private static final YamlLineScanner.LineTransform LEADING_HASH_ONCE = YamlHashUncommenter::uncommentLine;
 
     private YamlHashUncommenter() {}
 
@@ -16,25 +16,46 @@ public final class YamlHashUncommenter {
      * - 들여쓰기는 보존됩니다.
      * - # 뒤 공백은 '한 칸만' 제거합니다(두 칸 이상 있어도 한 칸만 제거).
      * - 라인 중간의 # 는 건드리지 않습니다(맨 앞 공백 다음 첫 # 만 처리).
+     * - 탭은 들여쓰기 오차 방지를 위해 공백 2칸으로 바꿉니다.
      */
     public static String transform(String yaml) {
-        // 탭이 있다면 들여쓰기 오차 방지 위해 스페이스로(선택)
-        String norm = yaml.replace("\t", "  ");
-        String[] lines = norm.split("\\r?\\n", -1);
-
-        StringBuilder out = new StringBuilder(norm.length() + 256);
-        for (String line : lines) {
-            Matcher m = LEADING_HASH_ONCE.matcher(line);
-            if (m.find()) {
-                // group(1): 원래 선행 공백, group(2): '# 후 공백(있으면 1칸)', group(3): 나머지
-                // => '#' 과 그 뒤 공백 1칸만 제거
-                out.append(m.group(1))  // 원래 선행 공백 유지
-                        .append(m.group(3))  // 내용
-                        .append('\n');
-            } else {
-                out.append(line).append('\n');
-            }
+        return YamlLineScanner.transform(yaml, LEADING_HASH_ONCE);
+    }
+
+    /**
+     * in을 읽으면서 transform과 같은 변환을 적용하는 Reader. (변환 결과 문자열을 따로 만들지 않고 YAML 파서에 바로 넘길 때 사용)
+     */
+    public static Reader uncommentingReader(Reader in) {
+        return YamlLineScanner.reader(in, LEADING_HASH_ONCE);
+    }
+
+    private static void uncommentLine(CharSequence line, int from, int to, StringBuilder out) {
+        int wsEnd = from;
+        while (wsEnd < to && YamlLineScanner.isSpace(line.charAt(wsEnd))) wsEnd++;
+        if (wsEnd == to || line.charAt(wsEnd) != '#') {
+            YamlLineScanner.appendLine(line, from, to, out);
+            return;
+        }
+
+        // '# 뒤 공백 1칸' 제거: 탭은 공백 2칸이 되므로 한 칸만 남는다
+        int restFrom = wsEnd + 1;
+        boolean halfTab = false;
+        if (restFrom < to && (line.charAt(restFrom) == ' ' || line.charAt(restFrom) == '\t')) {
+            halfTab = line.charAt(restFrom) == '\t';
+            restFrom++;
+        }
+        int restEnd = YamlLineScanner.singleLineEnd(line, restFrom, to);
+        if (restEnd < 0) {
+            YamlLineScanner.appendLine(line, from, to, out);
+            return;
+        }
+
+        // 원래 선행 공백 유지 + 내용
+        YamlLineScanner.appendUntabbed(line, from, wsEnd, out);
+        if (halfTab) {
+            out.append(' ');
         }
-        return out.toString();
+        YamlLineScanner.appendUntabbed(line, restFrom, restEnd, out);
+        out.append('\n');
     }
-}
\ No newline at end of file
+}
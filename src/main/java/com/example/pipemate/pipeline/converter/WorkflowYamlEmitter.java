@@ -0,0 +1,304 @@
+package com.example.pipemate.pipeline.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.emitter.Emitter;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.*;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 블록 기반 JSON(List<JsonNode>)을 GitHub Actions 워크플로우 YAML로 한 번에 출력한다.
+ * <p>
+ * JsonWorkflowConverter.convertToWorkflowJson → YamlConverter.convertJsonToYaml → YamlXStripAndComment.transform과
+ * 바이트 단위로 같은 결과를 만들되, 중간 트리(ObjectNode, Map, 순서 정렬 복사본)와 완성된 YAML 문자열의 재작성을 거치지 않는다.
+ * <p>
+ * - 블록 목록을 한 번 훑어 트리거/Job/Step 블록의 위치만 모은다. (같은 jobName의 Job 블록이 다시 오면 앞의 step은 버리는 규칙 등은 기존 변환과 같다)
+ * - 원본 JsonNode를 SnakeYAML 이벤트로 바로 Emitter에 보내고, Emitter 출력은 x_* 주석 처리 Writer를 거쳐 그대로 결과가 된다.
+ * - 스칼라의 태그, 따옴표 여부, 여러 줄 문자열의 literal 스타일, 출력할 수 없는 문자의 !!binary 처리는 SnakeYAML Representer/Serializer 규칙을 따른다.
+ */
+@Component
+@Slf4j
+public class WorkflowYamlEmitter {
+
+    private static final DumperOptions OPTIONS = YamlConverter.workflowDumperOptions();
+    private static final Resolver RESOLVER = new Resolver();
+    private static final Pattern MULTILINE = Pattern.compile("\n|\u0085|\\u2028|\\u2029");
+    private static final String DEFAULT_JOB = "ci-pipeline";
+
+    /**
+     * 블록 목록을 x_* 메타데이터가 주석 처리된 워크플로우 YAML 문자열로 변환한다.
+     */
+    public String toYaml(List<JsonNode> blocks) {
+        StringWriter out = new StringWriter(1024);
+        write(blocks, out);
+        return out.toString();
+    }
+
+    /**
+     * 블록 목록을 워크플로우 YAML로 out에 쓴다. (out은 닫힌다)
+     */
+    public void write(List<JsonNode> blocks, Writer out) {
+        try {
+            Plan plan = Plan.of(blocks);
+            try (Writer writer = YamlXStripAndComment.commentingWriter(out)) {
+                Emitter emitter = new Emitter(writer, OPTIONS);
+                emitter.emit(new StreamStartEvent(null, null));
+                emitter.emit(new DocumentStartEvent(null, null, OPTIONS.isExplicitStart(), OPTIONS.getVersion(), OPTIONS.getTags()));
+                emitRoot(emitter, plan);
+                emitter.emit(new DocumentEndEvent(null, null, OPTIONS.isExplicitEnd()));
+                emitter.emit(new StreamEndEvent(null, null));
+            }
+            log.debug("Workflow YAML emitted: {} jobs", plan.jobs().size());
+        } catch (Exception e) {
+            log.error("Error during workflow YAML emission", e);
+            throw new RuntimeException("Failed to convert workflow to YAML: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 루트: name, on, x_name, x_description (트리거 블록이 있을 때, 마지막 트리거 기준) → jobs
+     */
+    private void emitRoot(Emitter emitter, Plan plan) throws IOException {
+        startMapping(emitter);
+        if (plan.trigger() != null) {
+            JsonNode trigger = plan.trigger();
+            JsonNode config = trigger.path("config");
+            scalar(emitter, "name");
+            scalar(emitter, config.path("name").asText());
+            scalar(emitter, "on");
+            node(emitter, config.get("on"));
+            scalar(emitter, "x_name");
+            scalar(emitter, trigger.path("name").asText(""));
+            scalar(emitter, "x_description");
+            scalar(emitter, trigger.path("description").asText(""));
+        }
+
+        scalar(emitter, "jobs");
+        startMapping(emitter);
+        for (Map.Entry<String, JobPlan> job : plan.jobs().entrySet()) {
+            scalar(emitter, job.getKey());
+            emitJob(emitter, job.getValue());
+        }
+        emitter.emit(new MappingEndEvent(null, null));
+
+        emitter.emit(new MappingEndEvent(null, null));
+    }
+
+    /**
+     * Job: config 필드(steps 제외) → x_name, x_description (config에 같은 키가 있으면 그 자리의 값을 바꾼다) → steps
+     * Job 블록 없이 step만 있으면 runs-on: ubuntu-latest인 기본 Job이 된다.
+     */
+    private void emitJob(Emitter emitter, JobPlan job) throws IOException {
+        startMapping(emitter);
+        if (job.block() == null) {
+            scalar(emitter, "runs-on");
+            scalar(emitter, "ubuntu-latest");
+        } else {
+            JsonNode block = job.block();
+            JsonNode config = block.path("config");
+            Map<String, Object> metadata = new LinkedHashMap<>(4);
+            metadata.put("x_name", block.path("name").asText(""));
+            metadata.put("x_description", block.path("description").asText(""));
+            emitWithMetadata(emitter, config, metadata, "steps");
+        }
+
+        scalar(emitter, "steps");
+        startSequence(emitter);
+        for (JsonNode step : job.steps()) {
+            Map<String, Object> metadata = new LinkedHashMap<>(8);
+            metadata.put("x_name", step.path("name").asText(""));
+            metadata.put("x_description", step.path("description").asText(""));
+            metadata.put("x_domain", step.path("domain").asText(""));
+            metadata.put("x_task", step.path("task"));
+            startMapping(emitter);
+            emitWithMetadata(emitter, step.path("config"), metadata, null);
+            emitter.emit(new MappingEndEvent(null, null));
+        }
+        emitter.emit(new SequenceEndEvent(null, null));
+
+        emitter.emit(new MappingEndEvent(null, null));
+    }
+
+    /**
+     * config의 필드를 순서대로 쓰되 metadata 키는 metadata 값으로 바꿔 쓰고, config에 없던 metadata 키는 뒤에 이어 쓴다.
+     * (ObjectNode.put이 기존 키의 자리를 유지하는 것과 같은 순서)
+     */
+    private void emitWithMetadata(Emitter emitter, JsonNode config, Map<String, Object> metadata, String skippedField) throws IOException {
+        Set<String> written = new HashSet<>(4);
+        for (Map.Entry<String, JsonNode> field : config.properties()) {
+            String name = field.getKey();
+            if (name.equals(skippedField)) {
+                continue;
+            }
+            scalar(emitter, name);
+            if (metadata.containsKey(name)) {
+                value(emitter, metadata.get(name));
+                written.add(name);
+            } else {
+                node(emitter, field.getValue());
+            }
+        }
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            if (!written.contains(entry.getKey())) {
+                scalar(emitter, entry.getKey());
+                value(emitter, entry.getValue());
+            }
+        }
+    }
+
+    private void value(Emitter emitter, Object value) throws IOException {
+        if (value instanceof JsonNode node) {
+            node(emitter, node);
+        } else {
+            scalar(emitter, (String) value);
+        }
+    }
+
+    /**
+     * JsonNode를 그대로 이벤트로 보낸다. (ObjectMapper.convertValue로 만든 Map/List/스칼라와 같은 표현)
+     */
+    private void node(Emitter emitter, JsonNode node) throws IOException {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            scalar(emitter, Tag.NULL, "null", DumperOptions.ScalarStyle.PLAIN);
+        } else if (node.isObject()) {
+            startMapping(emitter);
+            for (Map.Entry<String, JsonNode> field : node.properties()) {
+                scalar(emitter, field.getKey());
+                node(emitter, field.getValue());
+            }
+            emitter.emit(new MappingEndEvent(null, null));
+        } else if (node.isArray()) {
+            startSequence(emitter);
+            for (JsonNode item : node) {
+                node(emitter, item);
+            }
+            emitter.emit(new SequenceEndEvent(null, null));
+        } else if (node.isBoolean()) {
+            scalar(emitter, Tag.BOOL, node.booleanValue() ? "true" : "false", DumperOptions.ScalarStyle.PLAIN);
+        } else if (node.isNumber()) {
+            number(emitter, node.numberValue());
+        } else if (node.isTextual()) {
+            scalar(emitter, node.textValue());
+        } else {
+            throw new IllegalArgumentException("Unsupported JSON node type: " + node.getNodeType());
+        }
+    }
+
+    /**
+     * SafeRepresenter.RepresentNumber와 같은 규칙 (정수는 !!int, 그 외는 !!float, NaN/무한대는 YAML 표기)
+     */
+    private void number(Emitter emitter, Number number) throws IOException {
+        if (number instanceof Byte || number instanceof Short || number instanceof Integer
+                || number instanceof Long || number instanceof BigInteger) {
+            scalar(emitter, Tag.INT, number.toString(), DumperOptions.ScalarStyle.PLAIN);
+            return;
+        }
+        String value;
+        if (number.equals(Double.NaN)) {
+            value = ".NaN";
+        } else if (number.equals(Double.POSITIVE_INFINITY)) {
+            value = ".inf";
+        } else if (number.equals(Double.NEGATIVE_INFINITY)) {
+            value = "-.inf";
+        } else {
+            value = number.toString();
+        }
+        scalar(emitter, Tag.FLOAT, value, DumperOptions.ScalarStyle.PLAIN);
+    }
+
+    /**
+     * SafeRepresenter.RepresentString과 같은 규칙 (출력할 수 없는 문자가 있으면 !!binary, 여러 줄이면 literal)
+     */
+    private void scalar(Emitter emitter, String value) throws IOException {
+        Tag tag = Tag.STR;
+        DumperOptions.ScalarStyle style = DumperOptions.ScalarStyle.PLAIN;
+        if (!StreamReader.isPrintable(value)) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (!new String(bytes, StandardCharsets.UTF_8).equals(value)) {
+                throw new YAMLException("invalid string value has occurred");
+            }
+            tag = Tag.BINARY;
+            value = Base64.getEncoder().encodeToString(bytes);
+            style = DumperOptions.ScalarStyle.LITERAL;
+        }
+        if (MULTILINE.matcher(value).find()) {
+            style = DumperOptions.ScalarStyle.LITERAL;
+        }
+        scalar(emitter, tag, value, style);
+    }
+
+    /**
+     * Serializer와 같은 방식으로 암시적 태그 여부를 정해 스칼라 이벤트를 보낸다.
+     */
+    private void scalar(Emitter emitter, Tag tag, String value, DumperOptions.ScalarStyle style) throws IOException {
+        ImplicitTuple implicit = new ImplicitTuple(
+                tag.equals(RESOLVER.resolve(NodeId.scalar, value, true)),
+                tag.equals(RESOLVER.resolve(NodeId.scalar, value, false)));
+        emitter.emit(new ScalarEvent(null, tag.getValue(), implicit, value, null, null, style));
+    }
+
+    private void startMapping(Emitter emitter) throws IOException {
+        emitter.emit(new MappingStartEvent(null, Tag.MAP.getValue(), true, null, null, DumperOptions.FlowStyle.BLOCK));
+    }
+
+    private void startSequence(Emitter emitter) throws IOException {
+        emitter.emit(new SequenceStartEvent(null, Tag.SEQ.getValue(), true, null, null, DumperOptions.FlowStyle.BLOCK));
+    }
+
+    /**
+     * 출력할 워크플로우 구조. 블록 내용은 복사하지 않고 원본 JsonNode를 가리킨다.
+     *
+     * @param trigger 마지막 트리거 블록 (없으면 null)
+     * @param jobs    jobName → Job 계획 (처음 등장한 순서)
+     */
+    private record Plan(JsonNode trigger, Map<String, JobPlan> jobs) {
+
+        static Plan of(List<JsonNode> blocks) {
+            JsonNode trigger = null;
+            Map<String, JobPlan> jobs = new LinkedHashMap<>();
+            for (JsonNode block : blocks) {
+                String type = block.path("type").asText(null);
+                if (type == null) {
+                    throw new IllegalArgumentException("Block type is missing");
+                }
+                switch (type) {
+                    case "trigger" -> trigger = block;
+                    case "job" -> {
+                        // 같은 jobName의 Job 블록이 다시 오면 자리는 유지하고 내용과 step 목록을 새로 시작한다.
+                        jobs.put(block.path("jobName").asText(DEFAULT_JOB), new JobPlan(block, new ArrayList<>()));
+                    }
+                    case "step" -> {
+                        if (!block.path("config").isObject()) {
+                            throw new IllegalArgumentException("Step block config must be an object");
+                        }
+                        jobs.computeIfAbsent(block.path("jobName").asText(DEFAULT_JOB), jobName -> new JobPlan(null, new ArrayList<>()))
+                                .steps().add(block);
+                    }
+                    default -> log.warn("Unknown type: {}", type);
+                }
+            }
+            return new Plan(trigger, jobs);
+        }
+    }
+
+    /**
+     * @param block Job 블록 (null이면 step만 있는 기본 Job)
+     * @param steps 이 Job에 속한 step 블록
+     */
+    private record JobPlan(JsonNode block, List<JsonNode> steps) {
+    }
+}
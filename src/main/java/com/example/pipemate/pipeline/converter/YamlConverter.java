@@ -5,6 +5,8 @@ import org.springframework.stereotype.Component;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -26,13 +28,7 @@ public class YamlConverter {
             log.info("Starting YAML conversion");
 
             // SnakeYAML 설정
-            DumperOptions options = new DumperOptions();
-            options.setPrettyFlow(true);                                    // 보기 좋은 출력
-            options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);     // 블록 형식 YAML
-            options.setDefaultScalarStyle(DumperOptions.ScalarStyle.PLAIN); // 스칼라 스타일
-            options.setLineBreak(DumperOptions.LineBreak.UNIX);             // \n 줄바꿈
-            options.setIndent(2);                                           // 2칸 들여쓰기
-            options.setIndicatorIndent(1);                                  // 인디케이터 들여쓰기
+            DumperOptions options = workflowDumperOptions();
 
             // SnakeYAML 인스턴스 생성
             Yaml yaml = new Yaml(new PrettyRepresenter(options), options);
@@ -55,6 +51,20 @@ public class YamlConverter {
         }
     }
 
+    /**
+     * 워크플로우 YAML 출력 설정 (WorkflowYamlEmitter도 같은 설정을 사용한다)
+     */
+    static DumperOptions workflowDumperOptions() {
+        DumperOptions options = new DumperOptions();
+        options.setPrettyFlow(true);                                    // 보기 좋은 출력
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);     // 블록 형식 YAML
+        options.setDefaultScalarStyle(DumperOptions.ScalarStyle.PLAIN); // 스칼라 스타일
+        options.setLineBreak(DumperOptions.LineBreak.UNIX);             // \n 줄바꿈
+        options.setIndent(2);                                           // 2칸 들여쓰기
+        options.setIndicatorIndent(1);                                  // 인디케이터 들여쓰기
+        return options;
+    }
+
     @SuppressWarnings("unchecked")
     private Map<String, Object> orderKeysRecursively(Map<String, Object> original) {
         Map<String, Object> result = new LinkedHashMap<>();
@@ -102,11 +112,21 @@ public class YamlConverter {
      * @return JSON Map (key-value 구조)
      */
     public Map<String, Object> convertYamlToJson(String yamlContent) {
+        return convertYamlToJson(new StringReader(yamlContent));
+    }
+
+    /**
+     * YAML을 읽으면서 JSON Map으로 변환 (변환 Reader를 끼워 중간 문자열 없이 파싱할 때 사용)
+     *
+     * @param yamlReader YAML 입력
+     * @return JSON Map (key-value 구조)
+     */
+    public Map<String, Object> convertYamlToJson(Reader yamlReader) {
         try {
             log.info("Starting JSON conversion from YAML");
 
             Yaml yaml = new Yaml();
-            Map<String, Object> jsonData = yaml.load(yamlContent);
+            Map<String, Object> jsonData = yaml.load(yamlReader);
 
             log.info("YAML to JSON conversion completed successfully");
             log.debug("Parsed JSON Map:\n{}", jsonData);
@@ -118,4 +138,4 @@ public class YamlConverter {
             throw new RuntimeException("Failed to convert YAML to JSON: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,263 @@
+package com.example.pipemate.pipeline.converter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * YAML 텍스트를 줄 단위로 바꾸는 변환(YamlXStripAndComment, YamlHashUncommenter)의 공통 스캐너.
+ * <p>
+ * 기존 구현(replace("\t", "  ") → split("\\r?\\n", -1) → 줄마다 정규식)과 같은 결과를 내되,
+ * 줄 배열이나 줄마다 String을 만들지 않고 입력을 한 번 훑으며 바로 출력한다.
+ * - 줄 나누기: \n 또는 \r\n (단독 \r은 줄 내용). 마지막 줄바꿈 뒤의 빈 줄도 한 줄로 처리하며, 출력하는 모든 줄은 \n으로 끝난다.
+ * - 탭은 출력할 때 공백 2칸으로 바꾸고, 들여쓰기 폭도 탭을 2칸으로 센다.
+ * - 정규식 판정은 문자 비교로 옮겼다: \s = [ \t\n\x0B\f\r], '.'은 줄 종결 문자(\n, \r, U+0085, U+2028, U+2029)를 제외,
+ *   '$'는 입력 끝 또는 마지막 한 글자인 줄 종결 문자 앞에서 매칭된다.
+ * 문자열 변환(transform) 외에 Writer(출력하면서 변환)와 Reader(읽으면서 변환)로도 쓸 수 있다.
+ */
+public final class YamlLineScanner {
+
+    private YamlLineScanner() {}
+
+    /**
+     * 한 줄을 변환해 out에 쓴다. (줄 끝의 \n 포함)
+     * line의 [from, to)가 줄 내용이며 탭을 치환하기 전의 원본이다.
+     */
+    public interface LineTransform {
+        void transformLine(CharSequence line, int from, int to, StringBuilder out);
+    }
+
+    /**
+     * 텍스트 전체를 줄 단위로 변환한다.
+     */
+    public static String transform(CharSequence text, LineTransform transform) {
+        StringBuilder out = new StringBuilder(text.length() + 256);
+        int from = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                transform.transformLine(text, from, i > from && text.charAt(i - 1) == '\r' ? i - 1 : i, out);
+                from = i + 1;
+            }
+        }
+        transform.transformLine(text, from, text.length(), out);
+        return out.toString();
+    }
+
+    /**
+     * 쓰는 대로 줄 단위로 변환해 out으로 내보내는 Writer. 마지막 줄은 close 시점에 처리하며, close하면 out도 닫힌다.
+     */
+    public static Writer writer(Writer out, LineTransform transform) {
+        return new TransformingWriter(out, transform);
+    }
+
+    /**
+     * in을 읽으면서 줄 단위로 변환하는 Reader.
+     */
+    public static Reader reader(Reader in, LineTransform transform) {
+        return new TransformingReader(in, transform);
+    }
+
+    /**
+     * 정규식 \s 에 해당하는 문자
+     */
+    public static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * 정규식 '.'이 매칭하지 않는 줄 종결 문자
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || (c | 1) == '\u2029';
+    }
+
+    /**
+     * [from, to)에 정규식 (.*)$ 가 매칭되면 (.*)의 끝 위치를, 아니면 -1을 반환한다.
+     * (줄 종결 문자가 없으면 to, 마지막 한 글자만 줄 종결 문자이면 그 앞)
+     */
+    public static int singleLineEnd(CharSequence line, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (isLineTerminator(line.charAt(i))) {
+                return i == to - 1 ? i : -1;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * trim() 후 "#"으로 시작하는지 (앞쪽의 공백·제어 문자를 건너뛴 첫 문자가 '#')
+     */
+    public static boolean isComment(CharSequence line, int from, int to) {
+        int i = from;
+        while (i < to && line.charAt(i) <= ' ') i++;
+        return i < to && line.charAt(i) == '#';
+    }
+
+    /**
+     * 탭을 공백 2칸으로 바꾼 뒤의 선행 공백(' ') 개수
+     */
+    public static int leadingSpaceWidth(CharSequence line, int from, int to) {
+        int width = 0;
+        for (int i = from; i < to; i++) {
+            char c = line.charAt(i);
+            if (c == ' ') {
+                width++;
+            } else if (c == '\t') {
+                width += 2;
+            } else {
+                break;
+            }
+        }
+        return width;
+    }
+
+    /**
+     * [from, to)를 탭만 공백 2칸으로 바꿔 out에 덧붙인다.
+     */
+    public static void appendUntabbed(CharSequence line, int from, int to, StringBuilder out) {
+        int start = from;
+        for (int i = from; i < to; i++) {
+            if (line.charAt(i) == '\t') {
+                out.append(line, start, i).append("  ");
+                start = i + 1;
+            }
+        }
+        out.append(line, start, to);
+    }
+
+    /**
+     * 줄을 그대로(탭만 치환) 출력한다.
+     */
+    public static void appendLine(CharSequence line, int from, int to, StringBuilder out) {
+        appendUntabbed(line, from, to, out);
+        out.append('\n');
+    }
+
+    private static final class TransformingWriter extends Writer {
+
+        private final Writer out;
+        private final LineTransform transform;
+        private final StringBuilder line = new StringBuilder(128);
+        private final StringBuilder transformed = new StringBuilder(160);
+        private char[] chunk = new char[256];
+
+        private TransformingWriter(Writer out, LineTransform transform) {
+            this.out = out;
+            this.transform = transform;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                accept(cbuf[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                accept(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            accept((char) c);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            endLine(line.length());
+            out.close();
+        }
+
+        private void accept(char c) throws IOException {
+            if (c != '\n') {
+                line.append(c);
+                return;
+            }
+            int to = line.length();
+            endLine(to > 0 && line.charAt(to - 1) == '\r' ? to - 1 : to);
+        }
+
+        private void endLine(int to) throws IOException {
+            transform.transformLine(line, 0, to, transformed);
+            int length = transformed.length();
+            if (chunk.length < length) {
+                chunk = new char[Math.max(length, chunk.length * 2)];
+            }
+            transformed.getChars(0, length, chunk, 0);
+            out.write(chunk, 0, length);
+            transformed.setLength(0);
+            line.setLength(0);
+        }
+    }
+
+    private static final class TransformingReader extends Reader {
+
+        private final Reader in;
+        private final LineTransform transform;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder(128);
+        private final StringBuilder pending = new StringBuilder(8192);
+        private int pendingPos;
+        private boolean eof;
+
+        private TransformingReader(Reader in, LineTransform transform) {
+            this.in = in;
+            this.transform = transform;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (pendingPos == pending.length()) {
+                if (eof) {
+                    return -1;
+                }
+                fill();
+            }
+            int n = Math.min(len, pending.length() - pendingPos);
+            pending.getChars(pendingPos, pendingPos + n, cbuf, off);
+            pendingPos += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        /**
+         * 원본을 한 번 읽어 완성된 줄들을 변환해 둔다. (원본 끝이면 마지막 줄까지)
+         */
+        private void fill() throws IOException {
+            pending.setLength(0);
+            pendingPos = 0;
+            int n = in.read(buffer, 0, buffer.length);
+            if (n < 0) {
+                eof = true;
+                transform.transformLine(line, 0, line.length(), pending);
+                line.setLength(0);
+                return;
+            }
+            for (int i = 0; i < n; i++) {
+                char c = buffer[i];
+                if (c != '\n') {
+                    line.append(c);
+                    continue;
+                }
+                int to = line.length();
+                transform.transformLine(line, 0, to > 0 && line.charAt(to - 1) == '\r' ? to - 1 : to, pending);
+                line.setLength(0);
+            }
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.pipemate.pipeline.converter;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.Writer;
 
 /**
  * YAML에서 x_* 로 시작하는 키와 그 하위 블록을 모두 주석 처리하는 유틸리티 클래스.
@@ -9,79 +8,90 @@ import java.util.regex.Pattern;
  */
 public final class YamlXStripAndComment {
 
-    // 선행 공백 + x_*: 형태를 매칭하는 정규식
-    private static final Pattern X_KEY_PATTERN =
-            Pattern.compile("^(\\s*)(x_[A-Za-z0-9_-]+):(.*)$");
-
     private YamlXStripAndComment() {}
 
     /**
      * 입력된 YAML 문자열에서 x_* 키와 그 하위 라인을 "# "로 주석 처리한다.
      */
     public static String transform(String yaml) {
-        // 탭 문자는 공백 2칸으로 치환
-        String norm = yaml.replace("\t", "  ");
-        String[] lines = norm.split("\\r?\\n", -1);
-        StringBuilder out = new StringBuilder(norm.length() + 256);
-
-        int i = 0;
-        while (i < lines.length) {
-            String line = lines[i];
-
-            // 이미 주석인 라인은 그대로 둔다
-            if (line.trim().startsWith("#")) {
-                out.append(line).append('\n');
-                i++;
-                continue;
-            }
+        return YamlLineScanner.transform(yaml, new Commenting());
+    }
 
-            Matcher m = X_KEY_PATTERN.matcher(line);
-            if (!m.find()) {
-                // x_* 키가 아니면 그대로 출력
-                out.append(line).append('\n');
-                i++;
-                continue;
-            }
+    /**
+     * 쓰는 대로 x_* 주석 처리를 적용해 out으로 내보내는 Writer. (YAML을 다 만든 뒤 다시 읽지 않도록 출력 단계에 끼워 쓴다)
+     * 결과는 transform과 같으며, 마지막 줄은 close 시점에 처리된다.
+     */
+    public static Writer commentingWriter(Writer out) {
+        return YamlLineScanner.writer(out, new Commenting());
+    }
 
-            // 현재 x_* 키 라인 주석 처리
-            int baseIndent = m.group(1).length();
-            out.append("# ").append(line).append('\n');
-            i++;
+    /**
+     * 줄 단위 상태 기계: x_* 키 줄을 만나면 그 들여쓰기보다 깊은 줄(빈 줄 포함)까지 주석 처리한다.
+     */
+    private static final class Commenting implements YamlLineScanner.LineTransform {
 
-            // 하위 블록(더 들여쓰기된 라인들) 모두 주석 처리
-            while (i < lines.length) {
-                String next = lines[i];
+        // 주석 처리 중인 x_* 키의 들여쓰기 (-1이면 x_* 블록 밖)
+        private int blockIndent = -1;
 
-                if (next.isEmpty()) {
+        @Override
+        public void transformLine(CharSequence line, int from, int to, StringBuilder out) {
+            if (blockIndent >= 0) {
+                if (from == to) {
                     // 빈 줄도 "# " 붙여서 주석 처리
-                    out.append("# ").append(next).append('\n');
-                    i++;
-                    continue;
+                    out.append("# \n");
+                    return;
                 }
-
-                int nextIndent = countLeadingSpaces(next);
-
-                if (nextIndent > baseIndent) {
-                    // 이미 주석이면 그대로, 아니면 "# " 붙이기
-                    if (next.trim().startsWith("#")) {
-                        out.append(next).append('\n');
-                    } else {
-                        out.append("# ").append(next).append('\n');
+                if (YamlLineScanner.leadingSpaceWidth(line, from, to) > blockIndent) {
+                    // 하위 블록: 이미 주석이면 그대로, 아니면 "# " 붙이기
+                    if (!YamlLineScanner.isComment(line, from, to)) {
+                        out.append("# ");
                     }
-                    i++;
-                } else {
-                    // 들여쓰기가 줄어들면 하위 블록 끝
-                    break;
+                    YamlLineScanner.appendLine(line, from, to, out);
+                    return;
                 }
+                // 들여쓰기가 줄어들면 하위 블록 끝
+                blockIndent = -1;
+            }
+
+            // 이미 주석인 라인은 그대로 둔다
+            if (YamlLineScanner.isComment(line, from, to)) {
+                YamlLineScanner.appendLine(line, from, to, out);
+                return;
             }
+
+            int indent = xKeyIndent(line, from, to);
+            if (indent >= 0) {
+                // 현재 x_* 키 라인 주석 처리
+                blockIndent = indent;
+                out.append("# ");
+            }
+            // x_* 키가 아니면 그대로 출력
+            YamlLineScanner.appendLine(line, from, to, out);
+        }
+    }
+
+    /**
+     * 선행 공백 + x_*: 형태(정규식 ^(\s*)(x_[A-Za-z0-9_-]+):(.*)$)이면 선행 공백 폭을, 아니면 -1을 반환한다.
+     */
+    private static int xKeyIndent(CharSequence line, int from, int to) {
+        int i = from;
+        int width = 0;
+        while (i < to && YamlLineScanner.isSpace(line.charAt(i))) {
+            width += line.charAt(i) == '\t' ? 2 : 1;
+            i++;
+        }
+        if (i + 1 >= to || line.charAt(i) != 'x' || line.charAt(i + 1) != '_') {
+            return -1;
+        }
+        int keyStart = i += 2;
+        while (i < to && isKeyChar(line.charAt(i))) i++;
+        if (i == keyStart || i == to || line.charAt(i) != ':') {
+            return -1;
         }
-        return out.toString();
+        return YamlLineScanner.singleLineEnd(line, i + 1, to) >= 0 ? width : -1;
     }
 
-    // 문자열의 선행 공백 개수를 세는 함수
-    private static int countLeadingSpaces(String s) {
-        int c = 0;
-        while (c < s.length() && s.charAt(c) == ' ') c++;
-        return c;
+    private static boolean isKeyChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
     }
-}
\ No newline at end of file
+}
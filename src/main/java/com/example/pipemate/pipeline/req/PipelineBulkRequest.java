@@ -0,0 +1,42 @@
+package com.example.pipemate.pipeline.req;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PipelineBulkRequest {
+    /**
+     * GitHub 레포지토리 소유자
+     */
+    private String owner;
+
+    /**
+     * GitHub 레포지토리 이름
+     */
+    private String repo;
+
+    /**
+     * 커밋 메시지 (선택사항, 없으면 변경된 워크플로우 이름으로 만든다)
+     */
+    private String message;
+
+    /**
+     * 한 커밋으로 저장할 워크플로우 목록
+     */
+    private List<Workflow> workflows;
+
+    @Getter
+    public static class Workflow {
+        /**
+         * 워크플로우 이름 (GitHub에 저장될 파일명에 사용)
+         */
+        private String workflowName;
+
+        /**
+         * 원본 JSON 배열 (input.json 내용)
+         */
+        private List<JsonNode> inputJson;
+    }
+}
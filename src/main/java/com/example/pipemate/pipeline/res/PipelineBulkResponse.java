@@ -0,0 +1,40 @@
+package com.example.pipemate.pipeline.res;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class PipelineBulkResponse {
+    /**
+     * 새로 만든 커밋 SHA (변경된 워크플로우가 없으면 null)
+     */
+    private String commitSha;
+
+    /**
+     * 커밋을 올린 브랜치 (저장소 기본 브랜치)
+     */
+    private String branch;
+
+    /**
+     * 이번 커밋으로 생성·수정된 워크플로우 이름
+     */
+    private List<String> updated;
+
+    /**
+     * GitHub의 내용과 같아 커밋에 포함하지 않은 워크플로우 이름
+     */
+    private List<String> unchanged;
+
+    /**
+     * 성공 여부
+     */
+    private boolean success;
+
+    /**
+     * 응답 메시지
+     */
+    private String message;
+}
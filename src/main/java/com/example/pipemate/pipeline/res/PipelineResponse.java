@@ -24,6 +24,11 @@ public class PipelineResponse {
      */
     private List<JsonNode> originalJson;
 
+    /**
+     * GitHub에 저장된 YAML 파일의 blob SHA (조회·수정 시, 이어지는 수정·삭제 요청의 If-Match로 사용)
+     */
+    private String sha;
+
     /**
      * 성공 여부
      */
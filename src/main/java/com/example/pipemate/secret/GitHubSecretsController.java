@@ -7,7 +7,6 @@ import io.swagger.v3.oas.annotations.Operation;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -74,7 +73,6 @@ public class GitHubSecretsController {
         return ResponseEntity.ok(response);
     }
 
-    @CacheEvict(value = "secret-key-list", allEntries = true)
     @DeleteMapping("/secrets")
     @Operation(summary = "레포지토리 시크릿 삭제", description = "지정한 시크릿 이름의 레포지토리 시크릿을 삭제합니다.")
     public ResponseEntity<Void> deleteSecret(
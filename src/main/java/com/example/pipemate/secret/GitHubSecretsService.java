@@ -1,5 +1,6 @@
 package com.example.pipemate.secret;
 
+import com.example.pipemate.cache.RepoCacheInvalidator;
 import com.example.pipemate.secret.req.GithubSecretRequest;
 import com.example.pipemate.secret.res.GithubPublicKeyResponse;
 import com.example.pipemate.secret.res.GithubSecretListResponse;
@@ -9,7 +10,7 @@ import com.goterl.lazysodium.SodiumJava;
 import com.goterl.lazysodium.interfaces.Box;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -23,7 +24,9 @@ import java.util.*;
 @RequiredArgsConstructor
 public class GitHubSecretsService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Qualifier("githubRestTemplate")
+    private final RestTemplate restTemplate;
+    private final RepoCacheInvalidator repoCacheInvalidator;
 
     /**
      * 지정한 저장소의 시크릿 목록을 조회한다.
@@ -52,7 +55,7 @@ public class GitHubSecretsService {
      * 저장소의 시크릿을 도메인별로 그룹화하여 조회한다.
      * (예: 'PAYMENT_KEY', 'PAYMENT_SECRET' → PAYMENT 그룹)
      */
-    @Cacheable("secret-key-list")
+    @Cacheable(value = "secret-key-list", keyGenerator = "tokenScopedRepoCacheKeyGenerator", sync = true)
     public GroupedGithubSecretListResponse getGroupedRepositorySecrets(String owner, String repo, String token) {
         log.info("[GitHubSecretsController] 레포지토리의 도메인별 시크릿 목록 조회");
 
@@ -76,7 +79,6 @@ public class GitHubSecretsService {
      * 저장소에 시크릿을 생성하거나 업데이트한다.
      * GitHub API에서 요구하는 공개키를 이용해 값 암호화 후 저장.
      */
-    @CacheEvict(value = "secret-key-list", allEntries = true)
     public void createOrUpdateSecret(String owner, String repo, String secretName, GithubSecretRequest request, String token) {
         // 1. 공개키 조회
         String keyUrl = String.format("https://api.github.com/repos/%s/%s/actions/secrets/public-key", owner, repo);
@@ -118,12 +120,15 @@ public class GitHubSecretsService {
         if (!response.getStatusCode().is2xxSuccessful()) {
             throw new RuntimeException("Failed to create or update secret. Status: " + response.getStatusCode());
         }
+
+        // 해당 저장소의 시크릿 목록 캐시만 무효화
+        repoCacheInvalidator.invalidate(owner, repo, "secret-key-list");
     }
 
     /**
      * GitHub 저장소의 시크릿 암호화를 위한 Public Key를 조회한다.
      */
-    @Cacheable("repo-public-key") // 깃허브 레포지토리 퍼블릭 키 캐싱 적용
+    @Cacheable(value = "repo-public-key", keyGenerator = "repoCacheKeyGenerator", sync = true) // 깃허브 레포지토리 퍼블릭 키 캐싱 적용
     public GithubPublicKeyResponse getPublicKey(String owner, String repo, String token) {
         String url = String.format("https://api.github.com/repos/%s/%s/actions/secrets/public-key", owner, repo);
 
@@ -167,7 +172,6 @@ public class GitHubSecretsService {
     /**
      * 저장소의 시크릿을 삭제한다.
      */
-    @CacheEvict(value = "secret-key-list", allEntries = true)
     public void deleteSecret(String owner, String repo, String secretName, String token) {
         String url = String.format("https://api.github.com/repos/%s/%s/actions/secrets/%s", owner, repo, secretName);
 
@@ -183,6 +187,9 @@ public class GitHubSecretsService {
         if (!response.getStatusCode().is2xxSuccessful()) {
             throw new RuntimeException("Failed to delete secret. Status: " + response.getStatusCode());
         }
+
+        // 해당 저장소의 시크릿 목록 캐시만 무효화
+        repoCacheInvalidator.invalidate(owner, repo, "secret-key-list");
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.example.pipemate.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * git이 파일 내용에 붙이는 blob SHA-1을 로컬에서 계산하는 유틸리티.
+ * (SHA-1("blob " + 바이트 길이 + "\0" + 내용)) → GitHub Contents/Trees API가 돌려주는 파일 sha와 같은 값
+ */
+public final class GitBlobSha {
+
+    private GitBlobSha() {}
+
+    public static String of(String content) {
+        return of(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String of(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(("blob " + content.length + "\0").getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest.digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
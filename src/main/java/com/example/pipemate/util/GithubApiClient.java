@@ -4,24 +4,27 @@ import com.example.pipemate.workflow.WorkflowItem;
 import com.example.pipemate.workflow.res.*;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
-import org.yaml.snakeyaml.Yaml;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
 
-import java.io.FileInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -30,20 +33,36 @@ import java.util.zip.ZipInputStream;
 @RequiredArgsConstructor
 public class GithubApiClient {
 
+    private static final Pattern NEXT_LINK = Pattern.compile("<([^>]+)>\\s*;\\s*rel=\"next\"");
+
+    @Qualifier("githubRestTemplate")
     private final RestTemplate restTemplate;
+    @Qualifier("githubLogRestTemplate")
+    private final RestTemplate logRestTemplate;
     private final ObjectMapper objectMapper;
+    private final GithubFileShaCache fileShaCache;
+
+    /**
+     * 토큰으로 저장소를 조회할 수 있는지 확인한다. (GET /repos/{owner}/{repo})
+     * 접근할 수 없으면(401/403/404) HttpClientErrorException이 발생한다.
+     */
+    public void checkRepositoryAccess(String owner, String repo, String token) {
+        String url = "https://api.github.com/repos/" + owner + "/" + repo;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Bearer " + token);
+        headers.set("Accept", "application/vnd.github+json");
+        headers.set("X-GitHub-Api-Version", "2022-11-28");
 
-    public GithubApiClient() {
-        this.restTemplate = new RestTemplate();
-        this.objectMapper = new ObjectMapper();
+        restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), Void.class);
     }
 
     /**
      * 지정된 소유자와 저장소의 GitHub Actions 워크플로우 리스트를 조회한다.
-     * 각 워크플로우의 YAML 파일을 가져와서 수동 실행 가능 여부와 사용 가능한 브랜치 정보도 함께 파싱한다.
+     * (트리거 정보는 포함하지 않으며, WorkflowTreeSync에서 blob SHA 단위로 채운다)
      */
-    public WorkflowListResponse fetchWorkflowList(String owner, String repo, String token) {
-        String listUrl = "https://api.github.com/repos/" + owner + "/" + repo + "/actions/workflows";
+    public WorkflowListResponse fetchWorkflowDefinitions(String owner, String repo, String token) {
+        String listUrl = "https://api.github.com/repos/" + owner + "/" + repo + "/actions/workflows?per_page=100";
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", "Bearer " + token);
@@ -66,17 +85,6 @@ public class GithubApiClient {
             item.setUrl(workflow.get("url").asText());
             item.setHtmlUrl(workflow.get("html_url").asText());
             item.setBadgeUrl(workflow.get("badge_url").asText());
-
-            // .yml 파일 내용 파싱
-            String fileUrl = "https://api.github.com/repos/" + owner + "/" + repo + "/contents/" + item.getPath();
-            ResponseEntity<JsonNode> fileResponse = restTemplate.exchange(fileUrl, HttpMethod.GET, entity, JsonNode.class);
-            String encoded = fileResponse.getBody().get("content").asText();
-            String cleaned = encoded.replaceAll("\\s+", "");
-            String decodedYaml = new String(Base64.getDecoder().decode(cleaned), StandardCharsets.UTF_8);
-
-            item.setManualDispatchEnabled(decodedYaml.contains("workflow_dispatch"));
-            item.setAvailableBranches(parseBranches(decodedYaml));
-
             workflowItems.add(item);
         }
 
@@ -86,27 +94,162 @@ public class GithubApiClient {
         return result;
     }
 
-    private List<String> parseBranches(String yamlText) {
-        try {
-            Yaml yaml = new Yaml();
-            Map<String, Object> parsed = yaml.load(yamlText);
-            Object on = parsed.get("on");
-
-            if (on instanceof Map<?, ?> onMap) {
-                Object push = onMap.get("push");
+    /**
+     * 저장소의 특정 디렉터리(예: .github/workflows)에 있는 파일들의 경로 → blob SHA 맵을 조회한다.
+     * 디렉터리가 없으면 빈 맵을 반환한다.
+     */
+    public Map<String, String> fetchDirectoryBlobShas(String owner, String repo, String directory, String token) {
+        String url = String.format("https://api.github.com/repos/%s/%s/contents/%s", owner, repo, directory);
 
-                if (push instanceof Map) {
-                    Object branches = ((Map<?, ?>) push).get("branches");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.set("Accept", "application/vnd.github+json");
 
-                    if (branches instanceof List<?>) {
-                        return ((List<?>) branches).stream().map(Object::toString).collect(Collectors.toList());
+        try {
+            ResponseEntity<JsonNode> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), JsonNode.class);
+
+            Map<String, String> shaByPath = new LinkedHashMap<>();
+            JsonNode entries = response.getBody();
+            if (entries != null && entries.isArray()) {
+                for (JsonNode entry : entries) {
+                    if ("file".equals(entry.path("type").asText())) {
+                        shaByPath.put(entry.path("path").asText(), entry.path("sha").asText());
+                        fileShaCache.put(owner, repo, entry.path("path").asText(), entry.path("sha").asText());
                     }
                 }
             }
-        } catch (Exception e) {
-            log.warn("브랜치 파싱 실패: {}", e.getMessage());
+            return shaByPath;
+        } catch (HttpClientErrorException.NotFound e) {
+            return Collections.emptyMap();
         }
-        return new ArrayList<>();
+    }
+
+    /**
+     * Git blob 내용을 SHA로 조회하여 UTF-8 문자열로 반환한다. (Git Data API)
+     */
+    public String fetchBlobContent(String owner, String repo, String blobSha, String token) {
+        String url = String.format("https://api.github.com/repos/%s/%s/git/blobs/%s", owner, repo, blobSha);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.set("Accept", "application/vnd.github+json");
+
+        ResponseEntity<JsonNode> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), JsonNode.class);
+        String encoded = response.getBody().path("content").asText();
+        return new String(Base64.getMimeDecoder().decode(encoded), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 저장소의 기본 브랜치 이름 (GET /repos/{owner}/{repo})
+     */
+    public String getDefaultBranch(String owner, String repo, String token) {
+        String url = "https://api.github.com/repos/" + owner + "/" + repo;
+
+        ResponseEntity<JsonNode> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(gitDataHeaders(token)), JsonNode.class);
+        return response.getBody().path("default_branch").asText();
+    }
+
+    /**
+     * 브랜치가 가리키는 커밋 SHA와 그 커밋의 트리 SHA를 조회한다. (Git Data API: ref → commit)
+     */
+    public GitBranchHead getBranchHead(String owner, String repo, String branch, String token) {
+        String refUrl = String.format("https://api.github.com/repos/%s/%s/git/ref/heads/%s", owner, repo, branch);
+        HttpEntity<Void> entity = new HttpEntity<>(gitDataHeaders(token));
+
+        String commitSha = restTemplate.exchange(refUrl, HttpMethod.GET, entity, JsonNode.class)
+                .getBody().path("object").path("sha").asText();
+
+        String commitUrl = String.format("https://api.github.com/repos/%s/%s/git/commits/%s", owner, repo, commitSha);
+        String treeSha = restTemplate.exchange(commitUrl, HttpMethod.GET, entity, JsonNode.class)
+                .getBody().path("tree").path("sha").asText();
+
+        return new GitBranchHead(commitSha, treeSha);
+    }
+
+    /**
+     * 브랜치 끝 커밋과 그 커밋의 루트 트리
+     */
+    public record GitBranchHead(String commitSha, String treeSha) {
+    }
+
+    /**
+     * 파일 내용을 blob으로 올리고 blob SHA를 반환한다. (POST /git/blobs)
+     */
+    public String createBlob(String owner, String repo, String content, String token) {
+        String url = String.format("https://api.github.com/repos/%s/%s/git/blobs", owner, repo);
+
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("content", content);
+        body.put("encoding", "utf-8");
+
+        return postGitData(url, body, token).path("sha").asText();
+    }
+
+    /**
+     * baseTree 위에 경로 → blob SHA 항목들을 덮어쓴 새 트리를 만든다. (POST /git/trees)
+     */
+    public String createTree(String owner, String repo, String baseTree, Map<String, String> blobShaByPath, String token) {
+        String url = String.format("https://api.github.com/repos/%s/%s/git/trees", owner, repo);
+
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("base_tree", baseTree);
+        ArrayNode entries = body.putArray("tree");
+        blobShaByPath.forEach((path, sha) -> entries.addObject()
+                .put("path", path)
+                .put("mode", "100644")
+                .put("type", "blob")
+                .put("sha", sha));
+
+        return postGitData(url, body, token).path("sha").asText();
+    }
+
+    /**
+     * 트리와 부모 커밋으로 새 커밋을 만든다. (POST /git/commits, 브랜치는 아직 움직이지 않는다)
+     */
+    public String createCommit(String owner, String repo, String message, String treeSha, String parentSha, String token) {
+        String url = String.format("https://api.github.com/repos/%s/%s/git/commits", owner, repo);
+
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("message", message);
+        body.put("tree", treeSha);
+        body.putArray("parents").add(parentSha);
+
+        return postGitData(url, body, token).path("sha").asText();
+    }
+
+    /**
+     * 브랜치를 새 커밋으로 옮긴다. (PATCH /git/refs/heads/{branch}, force=false)
+     * 그 사이 브랜치에 다른 커밋이 올라가 fast-forward가 아니면(422) false를 반환한다.
+     */
+    public boolean fastForwardBranch(String owner, String repo, String branch, String commitSha, String token) {
+        String url = String.format("https://api.github.com/repos/%s/%s/git/refs/heads/%s", owner, repo, branch);
+
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("sha", commitSha);
+        body.put("force", false);
+
+        HttpHeaders headers = gitDataHeaders(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        try {
+            restTemplate.exchange(url, HttpMethod.PATCH, new HttpEntity<>(body.toString(), headers), String.class);
+            return true;
+        } catch (HttpClientErrorException.UnprocessableEntity e) {
+            log.info("브랜치 이동 거절(fast-forward 아님): {}/{}@{}", owner, repo, branch);
+            return false;
+        }
+    }
+
+    private JsonNode postGitData(String url, ObjectNode body, String token) {
+        HttpHeaders headers = gitDataHeaders(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(body.toString(), headers), JsonNode.class).getBody();
+    }
+
+    private HttpHeaders gitDataHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.set("Accept", "application/vnd.github+json");
+        return headers;
     }
 
     /**
@@ -129,22 +272,60 @@ public class GithubApiClient {
     }
 
     /**
-     * 특정 저장소에서 실행된 워크플로우 실행 목록을 조회한다.
+     * 워크플로우 실행(run) 목록의 한 페이지를 생성 시각 역순으로 조회한다.
+     * params는 GitHub 쿼리 파라미터(branch, status, event, actor, created, page, per_page 등)이며 값은 그대로 인코딩해 보낸다.
+     * created 조건을 쓰면 GitHub는 조건당 최대 1,000건까지만 반환한다.
+     * 응답의 Link 헤더에 다음 페이지(rel="next")가 있으면 그 쿼리 파라미터를 함께 돌려준다.
      */
-    public WorkflowRunListResponse fetchWorkflowRuns(String owner, String repo, String token) {
-        String url = "https://api.github.com/repos/" + owner + "/" + repo + "/actions/runs";
+    public WorkflowRunPage fetchWorkflowRunsPage(String owner, String repo, Map<String, String> params, String token) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString("https://api.github.com/repos/{owner}/{repo}/actions/runs");
+        Map<String, String> variables = new HashMap<>();
+        params.forEach((name, value) -> {
+            // 값을 URI 변수로 넘겨 '+', '&' 같은 문자도 값으로 인코딩되게 한다.
+            builder.queryParam(name, "{q_" + name + "}");
+            variables.put("q_" + name, value);
+        });
+        variables.put("owner", owner);
+        variables.put("repo", repo);
+        URI uri = builder.encode().buildAndExpand(variables).toUri();
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", "Bearer " + token);
         headers.set("Accept", "application/vnd.github+json");
         headers.set("X-GitHub-Api-Version", "2022-11-28");
 
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
         ResponseEntity<WorkflowRunListResponse> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, WorkflowRunListResponse.class
+                uri, HttpMethod.GET, new HttpEntity<>(headers), WorkflowRunListResponse.class
         );
+        return new WorkflowRunPage(response.getBody(), nextPageParams(response.getHeaders()));
+    }
 
-        return response.getBody();
+    /**
+     * Link 헤더의 rel="next" URL에서 쿼리 파라미터만 꺼낸다. (다음 페이지가 없으면 null)
+     * GitHub의 next URL은 /repositories/{id}/... 형태라 경로는 쓰지 않고, 호출하는 쪽에서 owner/repo로 다시 만든다.
+     */
+    private Map<String, String> nextPageParams(HttpHeaders headers) {
+        String link = headers.getFirst(HttpHeaders.LINK);
+        if (link == null) {
+            return null;
+        }
+        Matcher matcher = NEXT_LINK.matcher(link);
+        if (!matcher.find()) {
+            return null;
+        }
+        Map<String, String> params = new LinkedHashMap<>();
+        UriComponentsBuilder.fromUriString(matcher.group(1)).build().getQueryParams().forEach((name, values) -> {
+            if (!values.isEmpty() && values.get(0) != null) {
+                params.put(name, UriUtils.decode(values.get(0), StandardCharsets.UTF_8));
+            }
+        });
+        return params;
+    }
+
+    /**
+     * 실행 목록 한 페이지와 다음 페이지의 쿼리 파라미터 (마지막 페이지면 next는 null)
+     */
+    public record WorkflowRunPage(WorkflowRunListResponse body, Map<String, String> next) {
     }
 
     /**
@@ -168,60 +349,102 @@ public class GithubApiClient {
 
     /**
      * 특정 워크플로우 실행 로그를 다운로드 받고, ZIP 압축 해제 후 텍스트로 반환한다.
+     * (첫 번째 .txt 로그 파일만 반환)
      */
     public String downloadAndExtractLogs(String owner, String repo, Long runId, String token) {
-        try {
-            // 1. GitHub 로그 API URL
-            String url = "https://api.github.com/repos/" + owner + "/" + repo + "/actions/runs/" + runId + "/logs";
-
-            // 2. 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + token);
-            headers.set("Accept", "application/vnd.github+json");
-            headers.set("X-GitHub-Api-Version", "2022-11-28");
-
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamFirstLogFile(owner, repo, runId, token, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
 
-            // 3. .zip 파일 요청 (리다이렉션이든 바로 오든 모두 대응)
-            ResponseEntity<byte[]> response = restTemplate.exchange(url, HttpMethod.GET, entity, byte[].class);
+    /**
+     * 실행 로그 ZIP을 응답 스트림에서 바로 풀면서 첫 번째 .txt 로그 파일 내용을 out으로 흘려보낸다.
+     * 임시 파일이나 압축 파일 전체를 메모리에 올리지 않는다.
+     */
+    public void streamFirstLogFile(String owner, String repo, Long runId, String token, OutputStream out) {
+        readLogArchive(owner, repo, runId, token, firstLogFileReader(out));
+    }
 
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new RuntimeException("GitHub 로그 다운로드 실패: " + response.getStatusCode());
+    /**
+     * 로그 ZIP에서 첫 번째 .txt 로그 파일 내용을 out으로 흘려보내는 reader
+     */
+    public static LogArchiveReader<Void> firstLogFileReader(OutputStream out) {
+        return zip -> {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (!entry.isDirectory() && entry.getName().endsWith(".txt")) {
+                    zip.transferTo(out);
+                    out.flush();
+                    return null;
+                }
             }
+            throw new RuntimeException("로그 파일을 찾을 수 없습니다.");
+        };
+    }
 
-            // 4. 임시 파일 저장
-            String zipPath = "/tmp/github_logs_" + runId + ".zip";
-            Files.write(Paths.get(zipPath), response.getBody());
+    /**
+     * 실행 로그 ZIP을 스트리밍으로 받아 reader에 넘긴다.
+     */
+    public <T> T readLogArchive(String owner, String repo, Long runId, String token, LogArchiveReader<T> reader) {
+        return fetchLogArchive(owner, repo, runId, token, body -> readZip(body, reader));
+    }
 
-            // 5. 압축 해제
-            String extractDir = "/tmp/github_logs_" + runId;
-            unzip(zipPath, extractDir);
+    /**
+     * 실행 로그 ZIP 원본(압축된 상태 그대로)을 out으로 복사한다. (로컬 로그 보관소 저장용)
+     */
+    public void downloadLogArchive(String owner, String repo, Long runId, String token, OutputStream out) {
+        fetchLogArchive(owner, repo, runId, token, body -> {
+            body.transferTo(out);
+            return null;
+        });
+    }
 
-            // 6. 로그 파일 읽기
-            Path logFilePath = Files.walk(Paths.get(extractDir))
-                    .filter(path -> path.toString().endsWith(".txt"))
-                    .findFirst()
-                    .orElseThrow(() -> new RuntimeException("로그 파일을 찾을 수 없습니다."));
+    /**
+     * 실행 로그 ZIP 응답 본문을 extractor에 넘긴다.
+     * GitHub는 로그를 외부 스토리지로 리다이렉트하므로 Location을 직접 따라가며, 이때 Authorization 헤더는 보내지 않는다.
+     */
+    private <T> T fetchLogArchive(String owner, String repo, Long runId, String token, LogBodyExtractor<T> extractor) {
+        // 1. GitHub 로그 API URL
+        String url = "https://api.github.com/repos/" + owner + "/" + repo + "/actions/runs/" + runId + "/logs";
+
+        // 2. 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Bearer " + token);
+        headers.set("Accept", "application/vnd.github+json");
+        headers.set("X-GitHub-Api-Version", "2022-11-28");
 
-            return Files.readString(logFilePath, StandardCharsets.UTF_8);
+        // 3. .zip 파일 요청 (리다이렉션이든 바로 오든 모두 대응)
+        return logRestTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().putAll(headers),
+                response -> {
+                    if (response.getStatusCode().is3xxRedirection() && response.getHeaders().getLocation() != null) {
+                        return logRestTemplate.execute(response.getHeaders().getLocation(), HttpMethod.GET, null,
+                                redirected -> extractor.extract(redirected.getBody()));
+                    }
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        throw new RuntimeException("GitHub 로그 다운로드 실패: " + response.getStatusCode());
+                    }
+                    return extractor.extract(response.getBody());
+                });
+    }
 
-        } catch (IOException e) {
-            throw new RuntimeException("로그 다운로드 또는 압축 해제 중 오류", e);
+    private <T> T readZip(InputStream body, LogArchiveReader<T> reader) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(body, StandardCharsets.UTF_8)) {
+            return reader.read(zip);
         }
     }
 
     /**
-     * ZIP 파일 압축 해제 유틸리티 메서드.
+     * 스트리밍으로 받은 로그 ZIP을 처리하는 함수
      */
-    private void unzip(String zipFilePath, String destDir) throws IOException {
-        try (ZipInputStream zis = new ZipInputStream(new FileInputStream(zipFilePath))) {
-            ZipEntry entry;
-            while ((entry = zis.getNextEntry()) != null) {
-                Path filePath = Paths.get(destDir, entry.getName());
-                Files.createDirectories(filePath.getParent());
-                Files.copy(zis, filePath, StandardCopyOption.REPLACE_EXISTING);
-            }
-        }
+    @FunctionalInterface
+    public interface LogArchiveReader<T> {
+        T read(ZipInputStream zip) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface LogBodyExtractor<T> {
+        T extract(InputStream body) throws IOException;
     }
 
     /**
@@ -269,36 +492,23 @@ public class GithubApiClient {
     /**
      * GitHub 저장소에 새 파일을 생성한다.
      * 동일 경로에 이미 파일이 존재하면 예외 발생.
+     * (존재 여부를 미리 조회하지 않고 sha 없이 PUT을 보내며, 파일이 있으면 GitHub가 422로 거절한다)
      */
     public void createFile(String owner, String repo, String path, String content, String message, String token) {
         try {
             String url = String.format("https://api.github.com/repos/%s/%s/contents/%s", owner, repo, path);
 
-            // 1. 파일 존재 여부 확인
-            if (fileExists(owner, repo, path, token)) {
-                throw new RuntimeException("파일이 이미 존재합니다. 다른 이름을 사용하거나 updateFile을 호출하세요.");
-            }
-
-            // 2. 생성 요청 바디 구성
-            ObjectNode body = objectMapper.createObjectNode();
-            body.put("message", message);
-            body.put("content", Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8)));
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setBearerAuth(token);
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<String> entity = new HttpEntity<>(body.toString(), headers);
-
-            // 3. 파일 생성 요청
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.PUT, entity, String.class);
+            ResponseEntity<String> response = putContent(url, content, message, null, token);
 
             if (response.getStatusCode().is2xxSuccessful()) {
+                rememberWrittenSha(owner, repo, path, response.getBody());
                 log.info("파일 생성 성공: {}", path);
             } else {
                 throw new RuntimeException("파일 생성 실패: " + response.getBody());
             }
 
+        } catch (HttpClientErrorException.UnprocessableEntity e) {
+            throw new RuntimeException("파일 생성 실패: 파일이 이미 존재합니다. 다른 이름을 사용하거나 updateFile을 호출하세요.", e);
         } catch (Exception e) {
             log.error("파일 생성 중 오류 발생", e);
             throw new RuntimeException("파일 생성 실패: " + e.getMessage(), e);
@@ -308,38 +518,46 @@ public class GithubApiClient {
     /**
      * GitHub 저장소의 파일을 업데이트한다.
      * 업데이트 시 기존 파일의 SHA 값이 반드시 필요.
+     * <p>
+     * - SHA는 expectedSha(클라이언트가 마지막으로 조회한 SHA, If-Match) → 파일 SHA 캐시 → 조회 순으로 정하고, 미리 조회하지 않고 바로 PUT을 보낸다.
+     * - SHA가 맞지 않아(409/422) 거절되면, expectedSha를 받은 경우는 덮어쓰지 않고 GithubFileConflictException을,
+     *   캐시된 SHA를 쓴 경우는 SHA를 다시 조회해 한 번 재시도한다.
+     *
+     * @return 업데이트된 파일의 새 blob SHA (응답의 content.sha)
      */
-    public void updateFile(String owner, String repo, String path, String content, String message, String token) {
+    public String updateFile(String owner, String repo, String path, String content, String message, String expectedSha, String token) {
         try {
             String url = String.format("https://api.github.com/repos/%s/%s/contents/%s", owner, repo, path);
 
-            // 1. 파일 SHA 가져오기
-            String existingSha = getFileSha(owner, repo, path, token);
-            if (existingSha == null) {
-                throw new RuntimeException("업데이트 실패: 해당 파일이 존재하지 않습니다.");
+            // 1. 파일 SHA 정하기 (클라이언트 SHA → 캐시 → 조회)
+            String sha = expectedSha != null ? expectedSha : fileShaCache.get(owner, repo, path);
+            if (sha == null) {
+                sha = getFileSha(owner, repo, path, token);
             }
 
-            // 2. 요청 바디 구성
-            ObjectNode body = objectMapper.createObjectNode();
-            body.put("message", message);
-            body.put("content", Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8)));
-            body.put("sha", existingSha); // 반드시 필요
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setBearerAuth(token);
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<String> entity = new HttpEntity<>(body.toString(), headers);
-
-            // 3. PUT 요청 (업데이트)
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.PUT, entity, String.class);
+            // 2. PUT 요청 (업데이트), SHA 충돌 시 처리
+            ResponseEntity<String> response;
+            try {
+                response = putContent(url, content, message, sha, token);
+            } catch (HttpClientErrorException.Conflict | HttpClientErrorException.UnprocessableEntity e) {
+                fileShaCache.evict(owner, repo, path);
+                if (expectedSha != null) {
+                    throw new GithubFileConflictException(path, currentShaQuietly(owner, repo, path, token));
+                }
+                log.info("파일 SHA 충돌로 다시 조회 후 재시도: {}", path);
+                response = putContent(url, content, message, getFileSha(owner, repo, path, token), token);
+            }
 
             if (response.getStatusCode().is2xxSuccessful()) {
+                String writtenSha = rememberWrittenSha(owner, repo, path, response.getBody());
                 log.info("파일 업데이트 성공: {}", path);
+                return writtenSha;
             } else {
                 throw new RuntimeException("파일 업데이트 실패: " + response.getBody());
             }
 
+        } catch (GithubFileConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("파일 업데이트 중 오류 발생", e);
             throw new RuntimeException("파일 업데이트 실패: " + e.getMessage(), e);
@@ -349,53 +567,89 @@ public class GithubApiClient {
     /**
      * GitHub 저장소에서 파일을 삭제한다.
      * 삭제 시 commit 메시지와 파일의 SHA가 필요.
+     * (SHA를 정하고 충돌을 처리하는 방식은 updateFile과 같다)
      */
-    public void deleteFile(String owner, String repo, String path, String message, String token) {
+    public void deleteFile(String owner, String repo, String path, String message, String expectedSha, String token) {
         try {
-            // 1. 삭제할 파일의 SHA 가져오기
             String url = String.format("https://api.github.com/repos/%s/%s/contents/%s", owner, repo, path);
-            HttpHeaders headers = new HttpHeaders();
-            headers.setBearerAuth(token);
-
-            HttpEntity<String> getEntity = new HttpEntity<>(headers);
-            ResponseEntity<String> getResponse = restTemplate.exchange(url, HttpMethod.GET, getEntity, String.class);
 
-            if (!getResponse.getStatusCode().is2xxSuccessful()) {
-                throw new RuntimeException("File not found: " + path);
+            // 1. 삭제할 파일의 SHA 정하기 (클라이언트 SHA → 캐시 → 조회)
+            String sha = expectedSha != null ? expectedSha : fileShaCache.get(owner, repo, path);
+            if (sha == null) {
+                sha = getFileSha(owner, repo, path, token);
             }
 
-            JsonNode responseNode = objectMapper.readTree(getResponse.getBody());
-            String sha = responseNode.path("sha").asText();
-
-            // 2. 파일 삭제 요청
-            ObjectNode requestBody = objectMapper.createObjectNode();
-            requestBody.put("message", message);
-            requestBody.put("sha", sha);
-
-            HttpHeaders deleteHeaders = new HttpHeaders();
-            deleteHeaders.setBearerAuth(token);
-            deleteHeaders.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<String> deleteEntity = new HttpEntity<>(requestBody.toString(), deleteHeaders);
-            ResponseEntity<String> deleteResponse = restTemplate.exchange(url, HttpMethod.DELETE, deleteEntity, String.class);
+            // 2. 파일 삭제 요청, SHA 충돌 시 처리
+            ResponseEntity<String> deleteResponse;
+            try {
+                deleteResponse = deleteContent(url, message, sha, token);
+            } catch (HttpClientErrorException.Conflict | HttpClientErrorException.UnprocessableEntity e) {
+                fileShaCache.evict(owner, repo, path);
+                if (expectedSha != null) {
+                    throw new GithubFileConflictException(path, currentShaQuietly(owner, repo, path, token));
+                }
+                log.info("파일 SHA 충돌로 다시 조회 후 재시도: {}", path);
+                deleteResponse = deleteContent(url, message, getFileSha(owner, repo, path, token), token);
+            }
 
             if (deleteResponse.getStatusCode().is2xxSuccessful()) {
+                fileShaCache.evict(owner, repo, path);
                 log.info("Successfully deleted file: {}", path);
             } else {
                 throw new RuntimeException("Failed to delete file: " + deleteResponse.getBody());
             }
 
+        } catch (GithubFileConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error deleting file from GitHub", e);
             throw new RuntimeException("Failed to delete GitHub file: " + e.getMessage(), e);
         }
     }
 
+    private ResponseEntity<String> putContent(String url, String content, String message, String sha, String token) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("message", message);
+        body.put("content", Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8)));
+        if (sha != null) {
+            body.put("sha", sha);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        return restTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(body.toString(), headers), String.class);
+    }
+
+    private ResponseEntity<String> deleteContent(String url, String message, String sha, String token) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("message", message);
+        body.put("sha", sha);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        return restTemplate.exchange(url, HttpMethod.DELETE, new HttpEntity<>(body.toString(), headers), String.class);
+    }
+
+    /**
+     * 충돌 응답에 담을 현재 SHA. (파일이 삭제되었거나 조회에 실패하면 null)
+     */
+    private String currentShaQuietly(String owner, String repo, String path, String token) {
+        try {
+            return getFileSha(owner, repo, path, token);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
     /**
-     * 특정 파일의 내용을 Base64 디코딩하여 반환한다.
-     * (GitHub Contents API)
+     * 특정 파일의 내용(Base64 디코딩)과 blob SHA를 함께 조회한다.
+     * 클라이언트는 이 SHA를 이후 수정·삭제 요청의 If-Match로 보내 충돌을 감지할 수 있다.
      */
-    public String getFileContent(String owner, String repo, String path, String token) {
+    public GithubFile getFile(String owner, String repo, String path, String token) {
         try {
             String url = String.format("https://api.github.com/repos/%s/%s/contents/%s", owner, repo, path);
             log.info("Fetching file content from URL: {}", url);
@@ -413,10 +667,12 @@ public class GithubApiClient {
             // JSON 응답에서 content 필드 추출 및 디코딩
             JsonNode rootNode = objectMapper.readTree(response.getBody());
             String base64Content = rootNode.path("content").asText();
+            String sha = rootNode.path("sha").asText(null);
+            fileShaCache.put(owner, repo, path, sha);
 
             // GitHub는 줄바꿈 포함된 base64 인코딩을 반환하므로, 줄바꿈 제거 후 디코딩
             byte[] decodedBytes = Base64.getMimeDecoder().decode(base64Content.replaceAll("\\s", ""));
-            return new String(decodedBytes, StandardCharsets.UTF_8);
+            return new GithubFile(new String(decodedBytes, StandardCharsets.UTF_8), sha);
 
         } catch (Exception e) {
             log.error("Error while fetching file content from GitHub", e);
@@ -425,28 +681,22 @@ public class GithubApiClient {
     }
 
     /**
-     * 파일 존재 여부 확인 (Contents API)
+     * 저장소 파일의 내용과 blob SHA
      */
-    public boolean fileExists(String owner, String repo, String path, String token) {
-        try {
-            String url = String.format("https://api.github.com/repos/%s/%s/contents/%s", owner, repo, path);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setBearerAuth(token);
-            headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.GET, entity, String.class
-            );
+    public record GithubFile(String content, String sha) {
+    }
 
-            return response.getStatusCode().is2xxSuccessful();  // 파일 존재함
-        } catch (HttpClientErrorException.NotFound e) {
-            return false;  // 파일 없음
-        } catch (Exception e) {
-            log.error("Error checking file existence", e);
-            throw new RuntimeException("파일 존재 여부 확인 중 오류 발생", e);
+    /**
+     * Contents API 쓰기(PUT) 응답의 content.sha를 파일 SHA 캐시에 기록하고 반환한다. (응답을 읽지 못하면 null)
+     */
+    private String rememberWrittenSha(String owner, String repo, String path, String responseBody) {
+        try {
+            String sha = objectMapper.readTree(responseBody).path("content").path("sha").asText(null);
+            fileShaCache.put(owner, repo, path, sha);
+            return sha;
+        } catch (IOException e) {
+            fileShaCache.evict(owner, repo, path);
+            return null;
         }
     }
 
@@ -470,6 +720,7 @@ public class GithubApiClient {
                 if (sha == null) {
                     throw new RuntimeException("SHA 값이 존재하지 않습니다.");
                 }
+                fileShaCache.put(owner, repo, path, sha);
                 return sha;
             } else {
                 throw new RuntimeException("파일 정보를 가져오는 데 실패했습니다: " + response.getBody());
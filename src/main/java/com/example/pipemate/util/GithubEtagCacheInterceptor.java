@@ -0,0 +1,127 @@
+package com.example.pipemate.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GitHub REST API GET 요청에 대한 조건부 요청(ETag / Last-Modified) 캐시.
+ * <p>
+ * - (URL, 토큰 해시, Accept) 단위로 응답 본문과 ETag/Last-Modified를 보관한다.
+ * - 같은 요청이 다시 오면 If-None-Match / If-Modified-Since 헤더를 붙여 보내고,
+ *   GitHub가 304 Not Modified를 돌려주면 보관해 둔 본문으로 200 응답을 만들어 반환한다.
+ * - GitHub는 304 응답을 rate limit에 포함하지 않으므로 같은 예산으로 더 자주 조회할 수 있다.
+ * - 저장 용량(byte) 기준으로 크기를 제한하며, 로그(zip) 다운로드 응답은 캐싱하지 않는다.
+ */
+@Component
+public class GithubEtagCacheInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Cache<String, CachedResponse> cache;
+    private final long maxEntryBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public GithubEtagCacheInterceptor(
+            @Value("${pipemate.github.etag-cache.max-size:64MB}") DataSize maxSize,
+            @Value("${pipemate.github.etag-cache.max-entry-size:2MB}") DataSize maxEntrySize
+    ) {
+        this.maxEntryBytes = maxEntrySize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, CachedResponse value) -> key.length() + value.body().length)
+                .build();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (request.getMethod() != HttpMethod.GET || request.getURI().getPath().endsWith("/logs")) {
+            return execution.execute(request, body);
+        }
+
+        String key = cacheKey(request);
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            if (cached.etag() != null) {
+                request.getHeaders().setIfNoneMatch(cached.etag());
+            } else if (cached.lastModified() != null) {
+                request.getHeaders().set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+            }
+        } else {
+            misses.increment();
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+
+        if (response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+            notModified.increment();
+            // 304 응답의 최신 헤더(rate limit 등)를 보관된 헤더 위에 덮어쓴다.
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(cached.headers());
+            response.getHeaders().forEach((name, values) -> {
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name)) {
+                    headers.put(name, values);
+                }
+            });
+            response.close();
+            return new BufferedClientHttpResponse(HttpStatus.OK, headers, cached.body());
+        }
+
+        String etag = response.getHeaders().getETag();
+        String lastModified = response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+        long contentLength = response.getHeaders().getContentLength();
+        if (response.getStatusCode().value() != HttpStatus.OK.value()
+                || (etag == null && lastModified == null)
+                || contentLength > maxEntryBytes) {
+            return response;
+        }
+
+        byte[] bytes;
+        try (InputStream in = response.getBody()) {
+            bytes = in.readAllBytes();
+        } finally {
+            response.close();
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+        if (bytes.length <= maxEntryBytes) {
+            cache.put(key, new CachedResponse(etag, lastModified, HttpHeaders.readOnlyHttpHeaders(headers), bytes));
+        }
+        return new BufferedClientHttpResponse(HttpStatus.OK, headers, bytes);
+    }
+
+    /**
+     * 현재 캐시 상태와 카운터(조건부 요청 수, 304 수, 미스 수)를 반환한다.
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), notModified.sum(), misses.sum(), cache.estimatedSize());
+    }
+
+    private String cacheKey(HttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String tokenHash = authorization == null ? "-" : TokenHashes.hash(authorization);
+        return request.getURI() + "|" + tokenHash + "|" + request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+    }
+
+    public record Stats(long conditionalRequests, long notModified, long misses, long entries) {
+    }
+
+    private record CachedResponse(String etag, String lastModified, HttpHeaders headers, byte[] body) {
+    }
+}
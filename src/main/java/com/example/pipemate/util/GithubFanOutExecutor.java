@@ -0,0 +1,95 @@
+package com.example.pipemate.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 여러 건의 GitHub API 호출을 가상 스레드에서 병렬로 실행하는 컴포넌트.
+ * <p>
+ * - 토큰별 동시 실행 수를 세마포어로 제한한다. (같은 토큰의 요청이 몰려도 GitHub 2차 제한에 걸리지 않도록)
+ * - 전체 작업에 마감 시간(deadline)을 두고, 시간 안에 끝나지 않은 작업은 취소 후 fallback 값으로 대체한다.
+ * - 결과는 입력 순서를 그대로 유지한다.
+ */
+@Component
+@Slf4j
+public class GithubFanOutExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Cache<String, Semaphore> permitsByToken;
+    private final int maxConcurrencyPerToken;
+    private final Duration deadline;
+
+    public GithubFanOutExecutor(
+            @Value("${pipemate.github.fan-out.max-concurrency-per-token:8}") int maxConcurrencyPerToken,
+            @Value("${pipemate.github.fan-out.deadline:15s}") Duration deadline
+    ) {
+        this.maxConcurrencyPerToken = maxConcurrencyPerToken;
+        this.deadline = deadline;
+        this.permitsByToken = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * items 각각에 task를 병렬로 적용하고, 입력 순서대로 결과를 반환한다.
+     * 실패하거나 마감 시간을 넘긴 항목은 fallback(item, 원인)의 결과로 채운다.
+     */
+    public <T, R> List<R> mapOrdered(String token, List<T> items,
+                                     Function<T, R> task,
+                                     BiFunction<T, Throwable, R> fallback) {
+        Semaphore permits = permitsByToken.get(TokenHashes.hash(token),
+                key -> new Semaphore(maxConcurrencyPerToken));
+
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            // 호출한 쪽이 백그라운드 작업이면 병렬 호출도 백그라운드로 rate limit을 적용받는다.
+            Supplier<R> call = GithubRequestPriority.wrap(() -> task.apply(item));
+            futures.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    return call.get();
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        List<R> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Future<R> future = futures.get(i);
+            T item = items.get(i);
+            try {
+                long remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+                results.add(future.get(remaining, TimeUnit.NANOSECONDS));
+            } catch (ExecutionException e) {
+                results.add(fallback.apply(item, e.getCause()));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                results.add(fallback.apply(item, e));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("병렬 GitHub 요청 대기 중 인터럽트 발생", e);
+            }
+        }
+        return results;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.pipemate.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 클라이언트가 보낸 If-Match SHA가 GitHub에 있는 파일의 현재 SHA와 달라 쓰기를 거절할 때 발생하는 예외.
+ * 클라이언트에는 412 Precondition Failed와 현재 SHA(ETag, 알 수 있는 경우)로 전달된다.
+ */
+public class GithubFileConflictException extends ResponseStatusException {
+
+    private final String currentSha;
+
+    public GithubFileConflictException(String path, String currentSha) {
+        super(HttpStatus.PRECONDITION_FAILED, "파일이 마지막으로 조회한 이후 변경되었습니다. 다시 조회한 뒤 저장하세요: " + path);
+        this.currentSha = currentSha;
+    }
+
+    public String getCurrentSha() {
+        return currentSha;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        if (currentSha != null) {
+            headers.setETag("\"" + currentSha + "\"");
+        }
+        return headers;
+    }
+}
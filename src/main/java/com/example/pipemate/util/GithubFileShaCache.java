@@ -0,0 +1,53 @@
+package com.example.pipemate.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 저장소 파일(기본 브랜치)의 마지막으로 확인한 blob SHA. (owner/repo:path → sha)
+ * <p>
+ * - GitHub 파일 조회·목록 조회·쓰기 응답에 담긴 sha로 갱신하고, 삭제하면 지운다.
+ * - 다른 곳에서 파일이 바뀌었을 수 있으므로 ttl 동안만 보관하고, 기본 브랜치 push 웹훅을 받으면 저장소 단위로 비운다.
+ */
+@Component
+public class GithubFileShaCache {
+
+    private final Cache<String, String> shas;
+
+    public GithubFileShaCache(
+            @Value("${pipemate.github.file-sha.ttl:5m}") Duration ttl,
+            @Value("${pipemate.github.file-sha.max-size:10000}") long maxSize
+    ) {
+        this.shas = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public String get(String owner, String repo, String path) {
+        return shas.getIfPresent(key(owner, repo, path));
+    }
+
+    public void put(String owner, String repo, String path, String sha) {
+        if (sha != null && !sha.isEmpty()) {
+            shas.put(key(owner, repo, path), sha);
+        }
+    }
+
+    public void evict(String owner, String repo, String path) {
+        shas.invalidate(key(owner, repo, path));
+    }
+
+    public void evictRepository(String owner, String repo) {
+        String prefix = RepoNames.normalize(owner) + "/" + RepoNames.normalize(repo) + ":";
+        shas.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private String key(String owner, String repo, String path) {
+        return RepoNames.normalize(owner) + "/" + RepoNames.normalize(repo) + ":" + path;
+    }
+}
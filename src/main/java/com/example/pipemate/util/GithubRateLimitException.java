@@ -0,0 +1,30 @@
+package com.example.pipemate.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 토큰의 GitHub API 호출 예산이 소진되어 요청을 보내지 않고 즉시 거절할 때 발생하는 예외.
+ * 클라이언트에는 429 Too Many Requests와 Retry-After(초) 헤더로 전달된다.
+ */
+public class GithubRateLimitException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public GithubRateLimitException(String reason, long retryAfterSeconds) {
+        super(HttpStatus.TOO_MANY_REQUESTS, reason);
+        this.retryAfterSeconds = Math.max(1L, retryAfterSeconds);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.pipemate.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 GitHub API 호출이 거쳐 가는 토큰별 rate limit 스케줄러.
+ * <p>
+ * - 응답 헤더(X-RateLimit-Remaining / X-RateLimit-Reset)로 토큰별 남은 호출 수와 초기화 시각을 추적한다.
+ * - 토큰별 token bucket으로 순간적인 호출 폭주를 평탄화한다.
+ * - 사용자 요청을 백그라운드 호출(실행 상태 폴링, 이력 동기화, 캐시 갱신)보다 우선한다. 구분은 HTTP 메서드가 아니라
+ *   호출한 쪽의 표시(GithubRequestPriority)로 한다. 남은 호출 수가 예약분 이하로 내려가면 백그라운드 호출은 거절하고
+ *   예약분은 사용자 요청(화면 조회 포함)에만 쓴다.
+ * - 예산이 소진되면 GitHub에 요청을 보내지 않고 즉시 429 + Retry-After로 응답한다.
+ */
+@Component
+@Slf4j
+public class GithubRateLimiter implements ClientHttpRequestInterceptor {
+
+    private final Cache<String, TokenBudget> budgets;
+    private final int burst;
+    private final double requestsPerSecond;
+    private final int interactiveReserve;
+    private final Duration interactiveMaxWait;
+    private final Duration backgroundMaxWait;
+
+    public GithubRateLimiter(
+            @Value("${pipemate.github.rate-limit.burst:30}") int burst,
+            @Value("${pipemate.github.rate-limit.requests-per-second:10}") double requestsPerSecond,
+            @Value("${pipemate.github.rate-limit.interactive-reserve:50}") int interactiveReserve,
+            @Value("${pipemate.github.rate-limit.interactive-max-wait:5s}") Duration interactiveMaxWait,
+            @Value("${pipemate.github.rate-limit.background-max-wait:2s}") Duration backgroundMaxWait
+    ) {
+        this.burst = burst;
+        this.requestsPerSecond = requestsPerSecond;
+        this.interactiveReserve = interactiveReserve;
+        this.interactiveMaxWait = interactiveMaxWait;
+        this.backgroundMaxWait = backgroundMaxWait;
+        this.budgets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofHours(2))
+                .build();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null) {
+            // 리다이렉트된 외부 스토리지 요청 등 토큰이 없는 호출은 GitHub 예산과 무관하다.
+            return execution.execute(request, body);
+        }
+
+        boolean interactive = !GithubRequestPriority.isBackground();
+        TokenBudget budget = budgets.get(TokenHashes.hash(authorization), key -> new TokenBudget(burst));
+
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        long remaining = budget.remaining(nowSeconds);
+        if (remaining == 0 || (!interactive && remaining > 0 && remaining <= interactiveReserve)) {
+            throw new GithubRateLimitException("GitHub API 호출 한도를 초과했습니다.", budget.resetEpochSeconds - nowSeconds);
+        }
+
+        Duration maxWait = interactive ? interactiveMaxWait : backgroundMaxWait;
+        long waitNanos = budget.reserve(requestsPerSecond, burst, maxWait.toNanos());
+        if (waitNanos < 0) {
+            throw new GithubRateLimitException("GitHub API 요청이 너무 많습니다.",
+                    (long) Math.ceil(-waitNanos / 1_000_000_000.0));
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("GitHub API 호출 대기 중 인터럽트 발생", e);
+            }
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+        HttpHeaders headers = response.getHeaders();
+        budget.update(headers.getFirst("X-RateLimit-Remaining"), headers.getFirst("X-RateLimit-Reset"));
+
+        int status = response.getStatusCode().value();
+        if (status == 429 || status == 403) {
+            String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null || budget.remaining(nowSeconds) == 0) {
+                response.close();
+                long retryAfterSeconds = retryAfter != null
+                        ? parseSeconds(retryAfter)
+                        : budget.resetEpochSeconds - System.currentTimeMillis() / 1000;
+                log.warn("GitHub rate limit 도달 (status: {}, retry after: {}s)", status, retryAfterSeconds);
+                throw new GithubRateLimitException("GitHub API 호출 한도를 초과했습니다.", retryAfterSeconds);
+            }
+        }
+        return response;
+    }
+
+    private long parseSeconds(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 60L;
+        }
+    }
+
+    /**
+     * 토큰 하나의 GitHub 호출 예산 상태
+     */
+    private static final class TokenBudget {
+
+        private volatile long remaining = -1;          // -1: 아직 모름
+        private volatile long resetEpochSeconds = 0;
+
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+
+        TokenBudget(int burst) {
+            this.tokens = burst;
+        }
+
+        /**
+         * 남은 호출 수. 초기화 시각이 지났거나 아직 응답을 받지 못했으면 -1
+         */
+        long remaining(long nowSeconds) {
+            return nowSeconds >= resetEpochSeconds ? -1 : remaining;
+        }
+
+        void update(String remainingHeader, String resetHeader) {
+            try {
+                if (resetHeader != null) {
+                    resetEpochSeconds = Long.parseLong(resetHeader.trim());
+                }
+                if (remainingHeader != null) {
+                    remaining = Long.parseLong(remainingHeader.trim());
+                }
+            } catch (NumberFormatException ignored) {
+                // 형식이 맞지 않는 헤더는 무시하고 기존 상태를 유지한다.
+            }
+        }
+
+        /**
+         * bucket에서 토큰 하나를 예약한다.
+         *
+         * @return 0이면 즉시 실행, 양수면 그만큼(ns) 기다린 뒤 실행,
+         *         음수면 maxWait 안에 토큰을 얻을 수 없음(절댓값은 필요한 대기 시간)
+         */
+        synchronized long reserve(double permitsPerSecond, int capacity, long maxWaitNanos) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond);
+            lastRefillNanos = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            long waitNanos = (long) ((1 - tokens) / permitsPerSecond * 1_000_000_000L);
+            if (waitNanos > maxWaitNanos) {
+                return -waitNanos;
+            }
+            tokens -= 1;
+            return waitNanos;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.pipemate.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * 토큰의 저장소 접근 권한 확인.
+ * <p>
+ * 저장소 단위로 공유되는 캐시(워크플로우 목록, 실행 정보, 공개키 등)를 돌려주기 전에,
+ * 요청한 토큰이 그 저장소를 조회할 수 있는지 확인한다.
+ * 확인 결과는 (토큰 해시, 저장소) 단위로 ttl 동안 캐싱하며, 거부 결과는 캐싱하지 않는다.
+ */
+@Component
+@Slf4j
+public class GithubRepoAccessVerifier {
+
+    private final GithubApiClient githubApiClient;
+    private final Cache<String, Boolean> granted;
+
+    public GithubRepoAccessVerifier(
+            GithubApiClient githubApiClient,
+            @Value("${pipemate.github.access-check.ttl:5m}") Duration ttl,
+            @Value("${pipemate.github.access-check.max-size:50000}") long maxSize
+    ) {
+        this.githubApiClient = githubApiClient;
+        this.granted = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 토큰으로 저장소에 접근할 수 없으면 404(ResponseStatusException)를 던진다.
+     */
+    public void verify(String owner, String repo, String token) {
+        String key = TokenHashes.hash(token) + "|" + owner + "/" + repo;
+        if (granted.getIfPresent(key) != null) {
+            return;
+        }
+        try {
+            githubApiClient.checkRepositoryAccess(owner, repo, token);
+        } catch (HttpClientErrorException e) {
+            int status = e.getStatusCode().value();
+            if (status != 401 && status != 403 && status != 404) {
+                throw e;
+            }
+            log.debug("[GithubRepoAccessVerifier] {}/{} 접근 거부 ({})", owner, repo, e.getStatusCode());
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "저장소를 찾을 수 없거나 접근 권한이 없습니다: " + owner + "/" + repo, e);
+        }
+        granted.put(key, Boolean.TRUE);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.pipemate.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시에 들어온 동일한 GitHub GET 요청을 하나의 upstream 호출로 합치는 인터셉터. (single-flight)
+ * <p>
+ * - (URL, 토큰 해시, Accept)가 같은 GET 요청이 이미 진행 중이면 새로 보내지 않고 그 결과를 함께 기다린다.
+ * - 먼저 온 요청(leader)의 응답 본문을 메모리에 읽어 두고, 기다린 요청마다 별도의 응답 객체로 돌려준다.
+ * - 합쳐진 요청은 rate limit 예산을 쓰지 않도록 rate limit 스케줄러보다 앞에 둔다.
+ * - 완료된 요청은 바로 제거되므로 캐시 역할은 하지 않는다. (캐싱은 ETag 캐시와 @Cacheable 담당)
+ */
+@Component
+public class GithubRequestCoalescer implements ClientHttpRequestInterceptor {
+
+    private final Map<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder coalescedCalls = new LongAdder();
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (request.getMethod() != HttpMethod.GET) {
+            return execution.execute(request, body);
+        }
+
+        String key = requestKey(request);
+        CompletableFuture<SharedResponse> call = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return await(existing).toResponse();
+        }
+
+        upstreamCalls.increment();
+        try {
+            SharedResponse shared;
+            try (ClientHttpResponse response = execution.execute(request, body);
+                 InputStream in = response.getBody()) {
+                HttpHeaders headers = new HttpHeaders();
+                headers.putAll(response.getHeaders());
+                shared = new SharedResponse(response.getStatusCode(), HttpHeaders.readOnlyHttpHeaders(headers), in.readAllBytes());
+            }
+            call.complete(shared);
+            return shared.toResponse();
+        } catch (IOException | RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * upstream 호출 수, 합쳐진(중복 제거된) 호출 수, 현재 진행 중인 요청 수를 반환한다.
+     */
+    public Stats stats() {
+        return new Stats(upstreamCalls.sum(), coalescedCalls.sum(), inFlight.size());
+    }
+
+    private SharedResponse await(CompletableFuture<SharedResponse> call) throws IOException {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String requestKey(HttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String tokenHash = authorization == null ? "-" : TokenHashes.hash(authorization);
+        return request.getURI() + "|" + tokenHash + "|" + request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+    }
+
+    public record Stats(long upstreamCalls, long coalescedCalls, long inFlight) {
+    }
+
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+        ClientHttpResponse toResponse() {
+            HttpHeaders copy = new HttpHeaders();
+            copy.putAll(headers);
+            return new BufferedClientHttpResponse(status, copy, body);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.pipemate.util;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 GitHub 호출이 백그라운드 작업(폴링, 이력 동기화, 캐시 갱신)인지 표시한다.
+ * <p>
+ * GithubRateLimiter는 이 표시로 사용자 요청과 백그라운드 호출을 구분한다. (HTTP 메서드와 무관)
+ * 표시가 없는 호출은 사용자 요청으로 본다. 다른 스레드로 넘기는 작업은 wrap으로 표시를 함께 넘긴다.
+ */
+public final class GithubRequestPriority {
+
+    private static final ThreadLocal<Boolean> BACKGROUND = new ThreadLocal<>();
+
+    private GithubRequestPriority() {}
+
+    public static boolean isBackground() {
+        return Boolean.TRUE.equals(BACKGROUND.get());
+    }
+
+    /**
+     * action을 백그라운드 호출로 실행한다.
+     */
+    public static <T> T background(Supplier<T> action) {
+        Boolean previous = BACKGROUND.get();
+        BACKGROUND.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void background(Runnable action) {
+        background(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 호출한 스레드의 표시를 그대로 가지고 실행되는 작업을 만든다. (병렬 실행용)
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> action) {
+        if (!isBackground()) {
+            return action;
+        }
+        return () -> background(action);
+    }
+
+    private static void restore(Boolean previous) {
+        if (previous == null) {
+            BACKGROUND.remove();
+        } else {
+            BACKGROUND.set(previous);
+        }
+    }
+}
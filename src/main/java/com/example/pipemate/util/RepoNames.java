@@ -0,0 +1,18 @@
+package com.example.pipemate.util;
+
+import java.util.Locale;
+
+/**
+ * 캐시 키·이력 행에 쓰는 저장소 이름(owner, repo) 정규화.
+ * <p>
+ * GitHub의 owner/repo는 대소문자를 구분하지 않는다. 요청마다 사용자가 입력한 대소문자와
+ * 웹훅의 정식 이름(repository.owner.login, repository.name)이 달라도 같은 키가 되도록 소문자로 맞춘다.
+ */
+public final class RepoNames {
+
+    private RepoNames() {}
+
+    public static String normalize(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+}
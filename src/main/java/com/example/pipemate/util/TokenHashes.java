@@ -0,0 +1,41 @@
+package com.example.pipemate.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * GitHub 토큰을 메모리 내 키로 사용할 때 평문 대신 해시 값을 쓰기 위한 유틸리티.
+ * <p>
+ * 프로세스마다 무작위로 만든 salt로 HMAC-SHA256을 계산하므로, 힙 덤프 등으로 해시가 노출되어도
+ * 미리 계산된 해시와 대조하여 토큰을 알아낼 수 없다. (해시는 프로세스 안에서만 의미가 있으며 디스크에 저장하지 않는다)
+ */
+public final class TokenHashes {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final SecretKeySpec SALT = new SecretKeySpec(randomSalt(), ALGORITHM);
+
+    private TokenHashes() {}
+
+    /**
+     * 토큰의 salted 해시(hex)를 반환한다.
+     */
+    public static String hash(String token) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(SALT);
+            return HexFormat.of().formatHex(mac.doFinal(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] randomSalt() {
+        byte[] salt = new byte[32];
+        new SecureRandom().nextBytes(salt);
+        return salt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.pipemate.webhook;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/webhooks")
+@RequiredArgsConstructor
+public class GithubWebhookController {
+
+    private final GithubWebhookService githubWebhookService;
+
+    @PostMapping("/github")
+    @Operation(summary = "GitHub 웹훅 수신",
+            description = "workflow_run, workflow_job, push 이벤트를 받아 실행/Job 캐시를 갱신하고 워크플로우 목록 캐시를 무효화합니다. "
+                    + "X-Hub-Signature-256 서명이 올바르지 않으면 401, 처리 대기열이 가득 차면 503을 반환합니다.")
+    public ResponseEntity<Void> receive(
+            @RequestHeader("X-GitHub-Event") String event,
+            @RequestHeader(value = "X-GitHub-Delivery", required = false) String deliveryId,
+            @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+            @RequestBody byte[] body
+    ) {
+        githubWebhookService.receive(event, deliveryId, signature, body);
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.pipemate.webhook;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 웹훅 이벤트를 제한된 크기의 대기열과 작업 스레드로 비동기 처리한다.
+ * <p>
+ * - 이벤트가 몰려도 대기열(queue-capacity)과 작업 스레드 수(workers)를 넘는 자원을 쓰지 않는다.
+ * - 대기열이 가득 차면 503으로 응답하여 GitHub 쪽에 실패한 전송으로 남긴다. (재전송 가능)
+ * - 작업 스레드는 플랫폼 스레드이며, 이벤트 처리는 캐시 갱신뿐이라 GitHub를 호출하지 않는다.
+ */
+@Slf4j
+@Component
+public class GithubWebhookDispatcher {
+
+    private final GithubWebhookEventHandler eventHandler;
+    private final ThreadPoolExecutor executor;
+
+    public GithubWebhookDispatcher(
+            GithubWebhookEventHandler eventHandler,
+            @Value("${pipemate.github.webhook.workers:2}") int workers,
+            @Value("${pipemate.github.webhook.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.eventHandler = eventHandler;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("github-webhook-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 이벤트 처리를 대기열에 넣는다. 대기열이 가득 차면 503 예외가 발생한다.
+     */
+    public void dispatch(String event, String deliveryId, JsonNode payload) {
+        try {
+            executor.execute(() -> {
+                try {
+                    eventHandler.handle(event, payload);
+                } catch (RuntimeException e) {
+                    log.warn("[GithubWebhookDispatcher] {} 이벤트 처리 실패 ({}): {}", event, deliveryId, e.toString());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("[GithubWebhookDispatcher] 대기열이 가득 차 {} 이벤트를 처리하지 못했습니다. ({})", event, deliveryId);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "웹훅 처리 대기열이 가득 찼습니다.");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
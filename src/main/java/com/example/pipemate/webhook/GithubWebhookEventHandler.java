@@ -0,0 +1,121 @@
+package com.example.pipemate.webhook;
+
+import com.example.pipemate.cache.RepoCacheInvalidator;
+import com.example.pipemate.util.GithubFileShaCache;
+import com.example.pipemate.util.RepoNames;
+import com.example.pipemate.workflow.WorkflowRunCache;
+import com.example.pipemate.workflow.history.WorkflowRunHistoryWriter;
+import com.example.pipemate.workflow.res.GithubJobDetailResponse;
+import com.example.pipemate.workflow.res.WorkflowRunListResponse;
+import com.example.pipemate.workflow.res.WorkflowRunResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 웹훅 이벤트를 캐시에 반영한다. (GitHub API를 호출하지 않음)
+ * <p>
+ * - workflow_run: 이벤트에 담긴 실행 상태로 실행 캐시와 실행 이력을 갱신한다.
+ * - workflow_job: 이벤트에 담긴 Job 상태를 실행의 Job 목록 캐시와 Job 이력에 반영한다.
+ * - push: 기본 브랜치의 파일 SHA 캐시를 비우고, .github/workflows 아래 파일이 바뀌었으면 워크플로우 목록 캐시를 무효화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GithubWebhookEventHandler {
+
+    static final String WORKFLOW_DIRECTORY_PREFIX = ".github/workflows/";
+
+    // push 웹훅의 commits 배열 최대 길이 (넘으면 일부 커밋이 빠져 있을 수 있음)
+    private static final int MAX_PUSH_COMMITS = 2048;
+
+    private final WorkflowRunCache workflowRunCache;
+    private final RepoCacheInvalidator repoCacheInvalidator;
+    private final WorkflowRunHistoryWriter historyWriter;
+    private final GithubFileShaCache fileShaCache;
+    private final ObjectMapper objectMapper;
+
+    public void handle(String event, JsonNode payload) {
+        JsonNode repository = payload.path("repository");
+        // 캐시 키·이력과 같은 규칙으로 소문자로 맞춘다. (요청 쪽 owner/repo 대소문자와 무관하게 같은 항목에 반영)
+        String owner = RepoNames.normalize(repository.path("owner").path("login").asText(null));
+        String repo = RepoNames.normalize(repository.path("name").asText(null));
+        if (owner == null || repo == null) {
+            log.debug("[GithubWebhookEventHandler] 저장소 정보가 없는 {} 이벤트 무시", event);
+            return;
+        }
+
+        switch (event) {
+            case "workflow_run" -> handleWorkflowRun(owner, repo, payload);
+            case "workflow_job" -> handleWorkflowJob(owner, repo, payload);
+            case "push" -> handlePush(owner, repo, repository, payload);
+            default -> log.debug("[GithubWebhookEventHandler] 처리하지 않는 이벤트 무시: {}", event);
+        }
+    }
+
+    private void handleWorkflowRun(String owner, String repo, JsonNode payload) {
+        JsonNode runNode = payload.path("workflow_run");
+        if (!runNode.isObject()) {
+            return;
+        }
+        try {
+            WorkflowRunResponse run = objectMapper.treeToValue(runNode, WorkflowRunResponse.class);
+            workflowRunCache.applyRun(owner, repo, run);
+            historyWriter.upsertRuns(owner, repo, List.of(objectMapper.treeToValue(runNode, WorkflowRunListResponse.WorkflowRun.class)));
+            log.debug("[GithubWebhookEventHandler] {}/{} 실행 {} 상태 반영: {}", owner, repo, run.getId(), run.getStatus());
+        } catch (JsonProcessingException e) {
+            log.warn("[GithubWebhookEventHandler] workflow_run 본문 변환 실패: {}", e.getOriginalMessage());
+        }
+    }
+
+    private void handleWorkflowJob(String owner, String repo, JsonNode payload) {
+        JsonNode jobNode = payload.path("workflow_job");
+        if (!jobNode.isObject() || !jobNode.path("run_id").canConvertToLong()) {
+            return;
+        }
+        GithubJobDetailResponse job = GithubJobDetailResponse.from(jobNode);
+        workflowRunCache.applyJob(owner, repo, jobNode.get("run_id").asLong(), job);
+        historyWriter.upsertJob(owner, repo, jobNode.get("run_id").asLong(), job);
+        log.debug("[GithubWebhookEventHandler] {}/{} Job {} 상태 반영: {}", owner, repo, job.getId(), job.getStatus());
+    }
+
+    private void handlePush(String owner, String repo, JsonNode repository, JsonNode payload) {
+        // 워크플로우 목록은 기본 브랜치의 파일 기준이다.
+        String defaultBranch = repository.path("default_branch").asText(null);
+        if (defaultBranch == null || !payload.path("ref").asText().equals("refs/heads/" + defaultBranch)) {
+            return;
+        }
+        fileShaCache.evictRepository(owner, repo);
+        if (!touchesWorkflows(payload)) {
+            return;
+        }
+        repoCacheInvalidator.invalidate(owner, repo, "workflow-file-list");
+        log.info("[GithubWebhookEventHandler] {}/{} 워크플로우 파일 변경으로 목록 캐시 무효화", owner, repo);
+    }
+
+    /**
+     * push에 .github/workflows 아래 파일 변경이 포함되었는지 확인한다.
+     * 커밋 목록이 비어 있거나(강제 push 등) 잘렸을 수 있으면 변경된 것으로 본다.
+     */
+    private boolean touchesWorkflows(JsonNode payload) {
+        JsonNode commits = payload.path("commits");
+        if (!commits.isArray() || commits.isEmpty() || commits.size() >= MAX_PUSH_COMMITS) {
+            return !payload.path("deleted").asBoolean(false);
+        }
+        for (JsonNode commit : commits) {
+            for (String field : new String[]{"added", "removed", "modified"}) {
+                for (JsonNode path : commit.path(field)) {
+                    if (path.asText().startsWith(WORKFLOW_DIRECTORY_PREFIX)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
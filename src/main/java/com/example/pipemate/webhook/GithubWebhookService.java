@@ -0,0 +1,109 @@
+package com.example.pipemate.webhook;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * GitHub 웹훅 수신 처리.
+ * <p>
+ * 1. X-Hub-Signature-256 (본문의 HMAC-SHA256) 서명을 웹훅 시크릿으로 검증한다.
+ * 2. 처리하지 않는 이벤트(ping 등)는 무시하고, 같은 X-GitHub-Delivery의 재전송은 한 번만 처리한다.
+ * 3. 실제 캐시 갱신은 GithubWebhookDispatcher의 제한된 대기열에서 비동기로 처리하고, 요청에는 바로 202로 응답한다.
+ */
+@Slf4j
+@Service
+public class GithubWebhookService {
+
+    static final Set<String> SUPPORTED_EVENTS = Set.of("workflow_run", "workflow_job", "push");
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SIGNATURE_PREFIX = "sha256=";
+
+    private final GithubWebhookDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec secret;
+
+    // 최근 처리한 delivery id (GitHub의 재전송 중복 제거)
+    private final Cache<String, Boolean> deliveries = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public GithubWebhookService(
+            GithubWebhookDispatcher dispatcher,
+            ObjectMapper objectMapper,
+            @Value("${pipemate.github.webhook.secret:}") String secret
+    ) {
+        this.dispatcher = dispatcher;
+        this.objectMapper = objectMapper;
+        this.secret = secret.isEmpty() ? null : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public void receive(String event, String deliveryId, String signature, byte[] body) {
+        verifySignature(signature, body);
+
+        if (!SUPPORTED_EVENTS.contains(event)) {
+            log.debug("[GithubWebhookService] 처리하지 않는 이벤트 무시: {} ({})", event, deliveryId);
+            return;
+        }
+        if (deliveryId != null && deliveries.asMap().putIfAbsent(deliveryId, Boolean.TRUE) != null) {
+            log.debug("[GithubWebhookService] 이미 받은 이벤트 무시: {} ({})", event, deliveryId);
+            return;
+        }
+
+        try {
+            JsonNode payload = objectMapper.readTree(body);
+            dispatcher.dispatch(event, deliveryId, payload);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "웹훅 본문을 읽을 수 없습니다.");
+        } catch (RuntimeException e) {
+            // 대기열이 가득 차 처리하지 못한 이벤트는 GitHub에서 다시 보낼 수 있도록 중복 기록을 지운다.
+            if (deliveryId != null) {
+                deliveries.invalidate(deliveryId);
+            }
+            throw e;
+        }
+    }
+
+    private void verifySignature(String signature, byte[] body) {
+        if (secret == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "웹훅 시크릿이 설정되지 않았습니다.");
+        }
+        if (signature == null || !signature.startsWith(SIGNATURE_PREFIX)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "웹훅 서명이 없습니다.");
+        }
+        byte[] expected;
+        byte[] actual;
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secret);
+            expected = mac.doFinal(body);
+            actual = HexFormat.of().parseHex(signature.substring(SIGNATURE_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "웹훅 서명이 올바르지 않습니다.");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 알고리즘을 사용할 수 없습니다.", e);
+        }
+        // 비교 시간으로 서명을 추측할 수 없도록 고정 시간 비교를 사용한다.
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "웹훅 서명이 올바르지 않습니다.");
+        }
+    }
+}
@@ -5,9 +5,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -58,10 +64,21 @@ public class GitHubWorkflowController {
     }
 
     @GetMapping("/workflow-runs")
-    @Operation(summary = "특정 레포지토리의 최근 워크플로우(yml 파일) 실행 목록 조회(기본값, 내림 차순으로 30개). 추후 페이지네이션 도입 예정", description = "워크플로우 실행 ID(run Id)가 포함되어 있습니다.")
+    @Operation(summary = "특정 레포지토리의 워크플로우(yml 파일) 실행 목록 조회(최신순, 페이지 단위)",
+            description = "branch, status(status 또는 conclusion 값), event, actor, 생성 시각 from~to(포함), per_page(1~100), page 조건을 GitHub 조회에 그대로 전달합니다. "
+                    + "응답의 next_cursor를 cursor로 보내면 다음 페이지를 조회하며, 이때 다른 조건은 무시됩니다. 워크플로우 실행 ID(run Id)가 포함되어 있습니다.")
     public ResponseEntity<WorkflowRunListResponse> getWorkflowRuns(
             @RequestParam String owner,
             @RequestParam String repo,
+            @RequestParam(required = false) String branch,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String event,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(name = "per_page", required = false) Integer perPage,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) String cursor,
             HttpServletRequest request
     ) {
         String token = request.getHeader("Authorization");
@@ -70,10 +87,39 @@ public class GitHubWorkflowController {
         }
         String cleanToken = token.replace("Bearer ", "").trim();
 
-        WorkflowRunListResponse response = gitHubWorkflowService.getWorkflowRuns(owner, repo, cleanToken);
+        WorkflowRunQuery query = new WorkflowRunQuery(branch, status, event, actor, from, to, perPage, page);
+        WorkflowRunListResponse response = gitHubWorkflowService.getWorkflowRuns(owner, repo, query, cursor, cleanToken);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/workflow-runs/export")
+    @Operation(summary = "조건에 맞는 워크플로우 실행 목록 전체 내보내기(NDJSON)",
+            description = "/workflow-runs와 같은 조건으로 모든 페이지를 차례로 조회하며 실행 하나를 한 줄의 JSON으로 스트리밍합니다. "
+                    + "GitHub는 조건을 지정한 조회에 대해 최대 1,000건까지만 반환합니다.")
+    public ResponseEntity<StreamingResponseBody> exportWorkflowRuns(
+            @RequestParam String owner,
+            @RequestParam String repo,
+            @RequestParam(required = false) String branch,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String event,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            HttpServletRequest request
+    ) {
+        String token = request.getHeader("Authorization");
+        if (token == null || !token.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Authorization header must be provided in 'Bearer ghp_xxx' format");
+        }
+        String cleanToken = token.substring("Bearer ".length()).trim();
+
+        WorkflowRunQuery query = new WorkflowRunQuery(branch, status, event, actor, from, to, null, null);
+        StreamingResponseBody body = out -> gitHubWorkflowService.exportWorkflowRuns(owner, repo, query, cleanToken, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @GetMapping("/workflow-run")
     @Operation(summary = "특정 워크플로우(yml 파일) 실행 상세 정보 조회", description = "워크플로우 실행 정보에 대한 식별값으로 runId를 사용합니다.")
     public ResponseEntity<WorkflowRunResponse> getWorkflowRun(
@@ -93,10 +139,32 @@ public class GitHubWorkflowController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/workflow-run/overview")
+    @Operation(summary = "워크플로우 실행 화면용 요약 조회(실행 + Job 요약 + 실패 로그)",
+            description = "실행 상세와 Job 목록을 한 번에 반환합니다. 실행이 실패로 끝났으면 처음 실패한 Job의 실패 step 로그 마지막 부분(failure)을 함께 반환합니다. "
+                    + "진행 중인 실행은 몇 초, 완료된 실행은 더 오래 캐싱해도 되도록 Cache-Control을 지정합니다.")
+    public ResponseEntity<WorkflowRunOverviewResponse> getWorkflowRunOverview(
+            @RequestParam String owner,
+            @RequestParam String repo,
+            @RequestParam Long runId,
+            HttpServletRequest request
+    ) {
+        String token = request.getHeader("Authorization");
+        if (token == null || !token.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Authorization header must be provided in 'Bearer ghp_xxx' format");
+        }
+        String cleanToken = token.substring("Bearer ".length()).trim();
+
+        WorkflowRunOverviewResponse response = gitHubWorkflowService.getRunOverview(owner, repo, runId, cleanToken);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(response.getMaxAge()).cachePrivate())
+                .body(response);
+    }
+
     @GetMapping("/workflow-run/logs/raw")
     @Operation(summary = "특정 워크플로우 실행 로그 텍스트 반환",
-            description = "실행(run) ID를 통해 해당 워크플로우 실행 시 기록된 로그의 압축 파일을 다운로드하고 압축을 해제해 텍스트 형태로 반환합니다.")
-    public ResponseEntity<String> getWorkflowRunLogsText(
+            description = "실행(run) ID를 통해 해당 워크플로우 실행 시 기록된 로그의 압축 파일을 받으면서 바로 압축을 해제해 텍스트 형태로 스트리밍합니다.")
+    public ResponseEntity<StreamingResponseBody> getWorkflowRunLogsText(
             @RequestParam String owner,
             @RequestParam String repo,
             @RequestParam Long runId,
@@ -108,8 +176,68 @@ public class GitHubWorkflowController {
         }
         String cleanToken = token.substring("Bearer ".length()).trim();
 
-        String logsText = gitHubWorkflowService.downloadAndExtractLogs(owner, repo, runId, cleanToken);
-        return ResponseEntity.ok().body(logsText);
+        StreamingResponseBody body = out -> gitHubWorkflowService.streamLogs(owner, repo, runId, cleanToken, out);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    @GetMapping(value = "/workflow-run/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "특정 워크플로우 실행 상태 실시간 구독(SSE)",
+            description = "구독 직후 snapshot 이벤트로 전체 상태(run + jobs)를 보내고, 이후에는 run / job / step 상태가 바뀔 때만 해당 이벤트를 보냅니다. 실행이 완료되면 complete 이벤트를 보내고 스트림을 종료합니다.")
+    public SseEmitter streamWorkflowRunStatus(
+            @RequestParam String owner,
+            @RequestParam String repo,
+            @RequestParam Long runId,
+            HttpServletRequest request
+    ) {
+        String token = request.getHeader("Authorization");
+        if (token == null || !token.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Authorization header must be provided in 'Bearer ghp_xxx' format");
+        }
+        String cleanToken = token.substring("Bearer ".length()).trim();
+        return gitHubWorkflowService.subscribeRunStatus(owner, repo, runId, cleanToken);
+    }
+
+    @GetMapping("/workflow-run/logs/index")
+    @Operation(summary = "특정 워크플로우 실행 로그의 Job/step 인덱스 조회",
+            description = "완료된 실행(run)의 로그를 Job별로 나누어 각 Job의 전체 라인 수와 step별 라인 구간을 반환합니다.")
+    public ResponseEntity<WorkflowRunLogIndexResponse> getWorkflowRunLogIndex(
+            @RequestParam String owner,
+            @RequestParam String repo,
+            @RequestParam Long runId,
+            HttpServletRequest request
+    ) {
+        String token = request.getHeader("Authorization");
+        if (token == null || !token.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Authorization header must be provided in 'Bearer ghp_xxx' format");
+        }
+        String cleanToken = token.substring("Bearer ".length()).trim();
+        return ResponseEntity.ok(gitHubWorkflowService.getLogIndex(owner, repo, runId, cleanToken));
+    }
+
+    @GetMapping("/workflow-run/logs/segment")
+    @Operation(summary = "특정 Job(및 step)의 로그 구간 조회",
+            description = "완료된 실행(run)에서 jobId(필수), step(선택) 기준으로 로그 일부를 반환합니다. fromLine/toLine은 기준 구간 내 상대 라인 번호(1부터)이며, tail=N을 지정하면 마지막 N라인을 반환합니다.")
+    public ResponseEntity<WorkflowRunLogSegmentResponse> getWorkflowRunLogSegment(
+            @RequestParam String owner,
+            @RequestParam String repo,
+            @RequestParam Long runId,
+            @RequestParam Long jobId,
+            @RequestParam(required = false) Integer step,
+            @RequestParam(required = false) Integer fromLine,
+            @RequestParam(required = false) Integer toLine,
+            @RequestParam(required = false) Integer tail,
+            HttpServletRequest request
+    ) {
+        String token = request.getHeader("Authorization");
+        if (token == null || !token.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Authorization header must be provided in 'Bearer ghp_xxx' format");
+        }
+        String cleanToken = token.substring("Bearer ".length()).trim();
+        WorkflowRunLogSegmentResponse response = gitHubWorkflowService.getLogSegment(
+                owner, repo, runId, jobId, step, fromLine, toLine, tail, cleanToken);
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/workflow-run/jobs")
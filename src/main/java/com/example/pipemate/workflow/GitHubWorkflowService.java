@@ -1,13 +1,29 @@
 package com.example.pipemate.workflow;
 
 import com.example.pipemate.util.GithubApiClient;
+import com.example.pipemate.workflow.live.RunStatusBroadcaster;
+import com.example.pipemate.workflow.log.JobLogIndex;
+import com.example.pipemate.workflow.log.RunLogArchive;
+import com.example.pipemate.workflow.log.RunLogIndex;
+import com.example.pipemate.workflow.log.RunLogStore;
+import com.example.pipemate.workflow.overview.RunOverviewAssembler;
 import com.example.pipemate.workflow.res.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -15,15 +31,31 @@ import java.util.List;
 public class GitHubWorkflowService {
 
     private final GithubApiClient githubApiClient;
+    private final WorkflowTreeSync workflowTreeSync;
+    private final WorkflowRunCache workflowRunCache;
+    private final RunLogStore runLogStore;
+    private final RunLogArchive runLogArchive;
+    private final RunStatusBroadcaster runStatusBroadcaster;
+    private final RunOverviewAssembler runOverviewAssembler;
+    private final ObjectMapper objectMapper;
+
+    @Value("${pipemate.github.workflow-runs.export-max-pages:100}")
+    private int exportMaxPages;
+
+    @Value("${pipemate.logs.max-segment-lines:5000}")
+    private int maxSegmentLines;
 
     /**
     * 저장소의 워크플로우 파일 목록 조회.
     * 결과는 'workflow-file-list' 캐시에 저장된다. (목록은 자주 변하지 않으므로 캐싱)
+    * 캐시 미스 시에도 변경된 워크플로우 파일만 다시 받아 파싱한다. (blob SHA 기반 증분 동기화)
+    * 같은 키의 동시 캐시 미스는 한 번만 조회한다. (sync)
+    * 일부 파일 조회에 실패한 결과(partial)는 L2에 저장하지 않고 짧은 시간 뒤 다시 조회한다. (PartialCacheValue)
     */
-    @Cacheable("workflow-file-list") // 깃허브 워크플로우 파일 목록 캐싱 적용
+    @Cacheable(value = "workflow-file-list", keyGenerator = "repoCacheKeyGenerator", sync = true) // 깃허브 워크플로우 파일 목록 캐싱 적용
     public WorkflowListResponse getWorkflows(String owner, String repo, String token) {
         log.info("[GitHubWorkflowService] 워크플로우 파일 목록 조회");
-        return githubApiClient.fetchWorkflowList(owner, repo, token);
+        return workflowTreeSync.sync(owner, repo, token);
     }
 
     /**
@@ -34,36 +66,175 @@ public class GitHubWorkflowService {
     }
 
     /**
-     * 저장소의 워크플로우 실행(run) 목록 조회.
+     * 저장소의 워크플로우 실행(run) 목록 한 페이지 조회.
+     * 조건은 GitHub 쿼리로 전달하고, 커서가 있으면 조건 대신 커서에 담긴 다음 페이지 조건으로 조회한다.
+     */
+    public WorkflowRunListResponse getWorkflowRuns(String owner, String repo, WorkflowRunQuery query, String cursor, String token) {
+        Map<String, String> params = cursor != null ? WorkflowRunCursor.decode(cursor, owner, repo) : query.toParams();
+        GithubApiClient.WorkflowRunPage page = githubApiClient.fetchWorkflowRunsPage(owner, repo, params, token);
+        WorkflowRunListResponse response = page.body();
+        response.setNextCursor(page.next() == null ? null : WorkflowRunCursor.encode(owner, repo, page.next()));
+        return response;
+    }
+
+    /**
+     * 조건에 맞는 실행 목록 전체를 NDJSON(실행 하나당 한 줄)으로 출력한다.
+     * 페이지를 미리 모으지 않고, 한 페이지를 쓰고 flush한 뒤에 다음 페이지를 조회한다. (최대 export-max-pages 페이지)
      */
-    public WorkflowRunListResponse getWorkflowRuns(String owner, String repo, String token) {
-        return githubApiClient.fetchWorkflowRuns(owner, repo, token);
+    public void exportWorkflowRuns(String owner, String repo, WorkflowRunQuery query, String token, OutputStream out) throws IOException {
+        Map<String, String> params = query.toParams();
+        params.putIfAbsent("per_page", String.valueOf(WorkflowRunQuery.MAX_PER_PAGE));
+        for (int pages = 0; params != null && pages < exportMaxPages; pages++) {
+            GithubApiClient.WorkflowRunPage page = githubApiClient.fetchWorkflowRunsPage(owner, repo, params, token);
+            List<WorkflowRunListResponse.WorkflowRun> runs = page.body().getWorkflowRuns();
+            if (runs != null) {
+                for (WorkflowRunListResponse.WorkflowRun run : runs) {
+                    out.write(objectMapper.writeValueAsBytes(run));
+                    out.write('\n');
+                }
+            }
+            out.flush();
+            params = page.next();
+        }
     }
 
     /**
      * 특정 워크플로우 실행(run) 상세 정보 조회.
-     * 결과는 'workflow-run-detail' 캐시에 저장된다.
+     * 완료된 실행은 오래 캐싱(디스크 저장 포함)하고, 진행 중인 실행은 몇 초만 캐싱한다. (WorkflowRunCache)
      */
-    @Cacheable("workflow-run-detail") // 깃허브 워크플로우 실행 상세 정보 조회 캐싱 적용
     public WorkflowRunResponse getWorkflowRun(String owner, String repo, Long runId, String token) {
         log.info("[GitHubWorkflowService] 워크플로우 실행 상세 정보 조회");
-        return githubApiClient.fetchWorkflowRun(owner, repo, runId, token);
+        return workflowRunCache.getRun(owner, repo, runId, token);
+    }
+
+    /**
+     * 실행 화면용 요약 조회. (실행 정보 + Job 요약 + 실패한 step의 로그 일부)
+     * 실행과 Job 목록을 동시에 조회하고, 실패한 실행이면 로그 발췌까지 한 번에 만든다. (RunOverviewAssembler)
+     */
+    public WorkflowRunOverviewResponse getRunOverview(String owner, String repo, Long runId, String token) {
+        return runOverviewAssembler.assemble(owner, repo, runId, token);
+    }
+
+    /**
+     * 특정 워크플로우 실행(run)의 상태 변화를 SSE로 구독.
+     * 같은 실행의 구독자들은 서버 쪽 poller 하나를 공유한다.
+     */
+    public SseEmitter subscribeRunStatus(String owner, String repo, Long runId, String token) {
+        return runStatusBroadcaster.subscribe(owner, repo, runId, token);
     }
 
     /**
      * 특정 워크플로우 실행(run)의 로그 파일(zip)을 다운로드 및 압축 해제 후 텍스트로 반환.
-     * 결과는 'workflow-run-log' 캐시에 저장된다.
+     * 완료된 실행의 로그는 로컬 로그 보관소(디스크)에서 읽는다.
      */
-    @Cacheable("workflow-run-log") // 깃허브 워크플로우 실행의 텍스트 로그 조회 캐싱 적용
     public String downloadAndExtractLogs(String owner, String repo, Long runId, String token) {
-        return githubApiClient.downloadAndExtractLogs(owner, repo, runId, token);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamLogs(owner, repo, runId, token, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 특정 워크플로우 실행(run)의 로그 파일(zip)을 스트리밍으로 압축 해제하며 텍스트를 out으로 바로 전달.
+     * (임시 파일 없이, 로그 전체를 메모리에 올리지 않음)
+     * 완료된 실행은 로컬 로그 보관소에 저장해 두고 이후 요청부터는 GitHub를 다시 호출하지 않는다.
+     */
+    public void streamLogs(String owner, String repo, Long runId, String token, OutputStream out) {
+        WorkflowRunResponse run = workflowRunCache.getRun(owner, repo, runId, token);
+        if ("completed".equals(run.getStatus())) {
+            runLogArchive.read(owner, repo, runId, token, GithubApiClient.firstLogFileReader(out));
+        } else {
+            githubApiClient.streamFirstLogFile(owner, repo, runId, token, out);
+        }
+    }
+
+    /**
+     * 완료된 워크플로우 실행(run)의 Job/step별 로그 인덱스 조회.
+     */
+    public WorkflowRunLogIndexResponse getLogIndex(String owner, String repo, Long runId, String token) {
+        return WorkflowRunLogIndexResponse.from(openCompletedRunLogs(owner, repo, runId, token));
+    }
+
+    /**
+     * 완료된 워크플로우 실행(run)에서 특정 Job(및 step)의 로그 일부 구간을 조회.
+     * <p>
+     * - step을 지정하면 해당 step 구간 안에서, 지정하지 않으면 Job 로그 전체에서 구간을 계산한다.
+     * - fromLine / toLine 은 기준 구간 안에서의 상대 라인 번호(1부터 시작)이다.
+     * - tail을 지정하면 기준 구간의 마지막 tail 라인을 반환한다. (fromLine / toLine 무시)
+     */
+    public WorkflowRunLogSegmentResponse getLogSegment(String owner, String repo, Long runId, Long jobId,
+                                                       Integer step, Integer fromLine, Integer toLine, Integer tail,
+                                                       String token) {
+        RunLogIndex index = openCompletedRunLogs(owner, repo, runId, token);
+        // 이 실행에 속한 Job인지 캐시된 Job 목록으로 확인하고 이름을 얻는다.
+        String jobName = workflowRunCache.getJobs(owner, repo, runId, token).stream()
+                .filter(j -> jobId.equals(j.getId()))
+                .findFirst()
+                .map(GithubJobDetailResponse::getName)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "이 실행에서 Job을 찾을 수 없습니다: " + jobId));
+        JobLogIndex job = index.findJob(jobName)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job 로그를 찾을 수 없습니다: " + jobName));
+
+        int baseFrom = 1;
+        int baseTo = job.lineCount();
+        String stepName = null;
+        if (step != null) {
+            JobLogIndex.StepRange range = job.steps().stream()
+                    .filter(s -> s.number() == step)
+                    .findFirst()
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "step 로그를 찾을 수 없습니다: " + step));
+            baseFrom = range.fromLine();
+            baseTo = range.toLine();
+            stepName = range.name();
+        }
+
+        int from;
+        int to;
+        if (tail != null) {
+            from = Math.max(baseFrom, baseTo - tail + 1);
+            to = baseTo;
+        } else {
+            from = fromLine == null ? baseFrom : Math.max(baseFrom, baseFrom + fromLine - 1);
+            to = toLine == null ? baseTo : Math.min(baseTo, baseFrom + toLine - 1);
+        }
+
+        boolean truncated = false;
+        if (to - from + 1 > maxSegmentLines) {
+            truncated = true;
+            if (tail != null) {
+                from = to - maxSegmentLines + 1;
+            } else {
+                to = from + maxSegmentLines - 1;
+            }
+        }
+
+        return WorkflowRunLogSegmentResponse.builder()
+                .runId(runId)
+                .jobId(jobId)
+                .jobName(job.name())
+                .step(step)
+                .stepName(stepName)
+                .fromLine(from)
+                .toLine(Math.max(to, from - 1))
+                .totalLines(job.lineCount())
+                .truncated(truncated)
+                .lines(runLogStore.readLines(job, from, to))
+                .build();
+    }
+
+    private RunLogIndex openCompletedRunLogs(String owner, String repo, Long runId, String token) {
+        WorkflowRunResponse run = workflowRunCache.getRun(owner, repo, runId, token);
+        if (!"completed".equals(run.getStatus())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "실행이 완료된 후 로그를 조회할 수 있습니다. (status: " + run.getStatus() + ")");
+        }
+        return runLogStore.open(owner, repo, runId, token);
     }
 
     /**
      * 특정 워크플로우 실행(run)의 하위 Job 목록 조회.
+     * 모든 Job이 완료된 목록은 오래 캐싱하고, 진행 중인 Job이 있으면 몇 초만 캐싱한다.
      */
     public List<GithubJobDetailResponse> getWorkflowJobs(String owner, String repo, Long runId, String token) {
-        return githubApiClient.fetchWorkflowJobs(owner, repo, runId, token);
+        return workflowRunCache.getJobs(owner, repo, runId, token);
     }
 
     /**
@@ -85,6 +256,7 @@ public class GitHubWorkflowService {
      */
     public void cancelWorkflowRun(String owner, String repo, Long runId, String token) {
         githubApiClient.cancelWorkflowRun(owner, repo, runId, token);
+        workflowRunCache.invalidate(owner, repo, runId);
     }
 }
 
@@ -0,0 +1,287 @@
+package com.example.pipemate.workflow;
+
+import com.example.pipemate.cache.PersistentCacheStore;
+import com.example.pipemate.cache.WarmableCache;
+import com.example.pipemate.util.GithubApiClient;
+import com.example.pipemate.util.GithubRepoAccessVerifier;
+import com.example.pipemate.util.RepoNames;
+import com.example.pipemate.workflow.res.GithubJobDetailResponse;
+import com.example.pipemate.workflow.res.WorkflowRunResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 워크플로우 실행(run)과 하위 Job 목록의 상태 기반 캐시.
+ * <p>
+ * - 완료(completed)된 실행과 모든 Job이 완료된 Job 목록은 더 이상 바뀌지 않으므로 오래 보관하고, L2(PersistentCacheStore)에도 저장해 재시작 후에도 재사용한다.
+ * - 대기/진행 중인 실행은 몇 초(active-ttl)만 보관하여 오래된 상태를 보여주지 않는다. (재조회는 ETag 캐시 덕분에 대부분 304)
+ * - 웹훅(workflow_run / workflow_job)을 받으면 GitHub 조회 없이 캐시를 갱신한다.
+ * - 값은 저장소 단위로 한 벌만 보관하고, 캐시된 값을 돌려주기 전에 요청한 토큰의 저장소 접근 권한을 확인한다. (확인 결과는 별도 캐싱)
+ */
+@Component
+public class WorkflowRunCache implements WarmableCache {
+
+    static final String RUN_CACHE = "workflow-run";
+    static final String JOBS_CACHE = "workflow-jobs";
+
+    private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private final GithubApiClient githubApiClient;
+    private final GithubRepoAccessVerifier accessVerifier;
+    private final PersistentCacheStore persistentCacheStore;
+    private final Duration persistentTtl;
+    private final JavaType runType;
+    private final JavaType jobsType;
+
+    private final Cache<String, CachedValue<WorkflowRunResponse>> runs;
+    private final Cache<String, CachedValue<List<GithubJobDetailResponse>>> jobs;
+
+    public WorkflowRunCache(
+            GithubApiClient githubApiClient,
+            GithubRepoAccessVerifier accessVerifier,
+            PersistentCacheStore persistentCacheStore,
+            ObjectMapper objectMapper,
+            @Value("${pipemate.cache.workflow-run.active-ttl:5s}") Duration activeTtl,
+            @Value("${pipemate.cache.workflow-run.terminal-ttl:1d}") Duration terminalTtl,
+            @Value("${pipemate.cache.workflow-run.persistent-ttl:30d}") Duration persistentTtl,
+            @Value("${pipemate.cache.workflow-run.max-size:10000}") long maxSize
+    ) {
+        this.githubApiClient = githubApiClient;
+        this.accessVerifier = accessVerifier;
+        this.persistentCacheStore = persistentCacheStore;
+        this.persistentTtl = persistentTtl;
+        this.runType = objectMapper.constructType(WorkflowRunResponse.class);
+        this.jobsType = objectMapper.getTypeFactory().constructType(new TypeReference<List<GithubJobDetailResponse>>() {});
+        this.runs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new StatusExpiry<WorkflowRunResponse>(activeTtl, terminalTtl))
+                .build();
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new StatusExpiry<List<GithubJobDetailResponse>>(activeTtl, terminalTtl))
+                .build();
+    }
+
+    /**
+     * 실행 상세 정보를 반환한다. (메모리 → L2 → GitHub 순)
+     */
+    public WorkflowRunResponse getRun(String owner, String repo, Long runId, String token) {
+        return lookup(runs, RUN_CACHE, owner, repo, runId, token, runType,
+                () -> githubApiClient.fetchWorkflowRun(owner, repo, runId, token),
+                run -> "completed".equals(run.getStatus()),
+                (loaded, cached) -> isOlder(loaded.getUpdated_at(), cached.getUpdated_at()));
+    }
+
+    /**
+     * 실행의 하위 Job 목록을 반환한다. (메모리 → L2 → GitHub 순)
+     */
+    public List<GithubJobDetailResponse> getJobs(String owner, String repo, Long runId, String token) {
+        return lookup(jobs, JOBS_CACHE, owner, repo, runId, token, jobsType,
+                () -> githubApiClient.fetchWorkflowJobs(owner, repo, runId, token),
+                WorkflowRunCache::isAllCompleted,
+                WorkflowRunCache::isOlderJobs);
+    }
+
+    /**
+     * 실행(및 Job 목록) 캐시를 비운다. (취소, 재실행 등으로 상태가 바뀌는 경우)
+     */
+    public void invalidate(String owner, String repo, Long runId) {
+        String key = key(owner, repo, runId);
+        runs.invalidate(key);
+        jobs.invalidate(key);
+        persistentCacheStore.delete(RUN_CACHE, key);
+        persistentCacheStore.delete(JOBS_CACHE, key);
+    }
+
+    /**
+     * 웹훅(workflow_run)으로 받은 실행 상태로 캐시를 갱신한다. (GitHub 조회 없음)
+     * 웹훅은 순서가 보장되지 않으므로, 캐시된 값보다 오래된(updated_at 기준) 이벤트는 무시한다.
+     */
+    public void applyRun(String owner, String repo, WorkflowRunResponse run) {
+        String key = key(owner, repo, run.getId());
+        boolean terminal = "completed".equals(run.getStatus());
+        CachedValue<WorkflowRunResponse> current = runs.asMap().compute(key, (k, cached) ->
+                cached != null && isOlder(run.getUpdated_at(), cached.value().getUpdated_at())
+                        ? cached
+                        : new CachedValue<>(run, terminal));
+        if (current.value() != run) {
+            return;
+        }
+        if (terminal) {
+            persistentCacheStore.put(RUN_CACHE, key, owner, repo, run, runType, persistentTtl);
+        } else {
+            // 재실행 등으로 완료된 실행이 다시 진행 중이 되면 저장된 완료 상태와 Job 목록을 버린다.
+            persistentCacheStore.delete(RUN_CACHE, key);
+            jobs.invalidate(key);
+            persistentCacheStore.delete(JOBS_CACHE, key);
+        }
+    }
+
+    /**
+     * 웹훅(workflow_job)으로 받은 Job 상태를 캐시된 Job 목록에 반영한다.
+     * 메모리에 목록이 없으면 L2의 목록을 버려 다음 조회 때 새로 받게 한다.
+     * 완료된 Job을 진행 중 상태로 되돌리는 (순서가 뒤바뀐) 이벤트는 무시한다. (재실행된 Job은 새 id를 가진다)
+     */
+    public void applyJob(String owner, String repo, Long runId, GithubJobDetailResponse job) {
+        String key = key(owner, repo, runId);
+        CachedValue<List<GithubJobDetailResponse>> updated = jobs.asMap().computeIfPresent(key, (k, cached) -> {
+            List<GithubJobDetailResponse> list = new ArrayList<>(cached.value());
+            int index = -1;
+            for (int i = 0; i < list.size(); i++) {
+                if (list.get(i).getId().equals(job.getId())) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                list.add(job);
+            } else if ("completed".equals(list.get(index).getStatus()) && !"completed".equals(job.getStatus())) {
+                return cached;
+            } else {
+                list.set(index, job);
+            }
+            return new CachedValue<>(List.copyOf(list), isAllCompleted(list));
+        });
+        if (updated == null) {
+            persistentCacheStore.delete(JOBS_CACHE, key);
+        } else if (updated.terminal()) {
+            persistentCacheStore.put(JOBS_CACHE, key, owner, repo, updated.value(), jobsType, persistentTtl);
+        }
+    }
+
+    @Override
+    public String cacheName() {
+        return RUN_CACHE + ", " + JOBS_CACHE;
+    }
+
+    /**
+     * L2에 저장된 최근 완료 실행과 Job 목록을 메모리에 올린다. (재시작 후 워밍업)
+     */
+    @Override
+    public int warmUp(int limit) {
+        return warmUp(runs, RUN_CACHE, runType, limit) + warmUp(jobs, JOBS_CACHE, jobsType, limit);
+    }
+
+    private <T> int warmUp(Cache<String, CachedValue<T>> cache, String cacheName, JavaType valueType, int limit) {
+        int loaded = 0;
+        for (PersistentCacheStore.Stored<T> stored : persistentCacheStore.<T>recent(cacheName, valueType, limit)) {
+            if (cache.asMap().putIfAbsent(stored.key(), new CachedValue<>(stored.value(), true)) == null) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private <T> T lookup(Cache<String, CachedValue<T>> cache, String cacheName,
+                         String owner, String repo, Long runId, String token,
+                         JavaType valueType, Supplier<T> loader, Predicate<T> isTerminal,
+                         BiPredicate<T, T> isOlderThanCached) {
+        String key = key(owner, repo, runId);
+        accessVerifier.verify(owner, repo, token);
+
+        CachedValue<T> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.value();
+        }
+        // L2에는 완료된 값만 저장된다.
+        Optional<PersistentCacheStore.Stored<T>> stored = persistentCacheStore.get(cacheName, key, valueType);
+        if (stored.isPresent()) {
+            CachedValue<T> existing = cache.asMap().putIfAbsent(key, new CachedValue<>(stored.get().value(), true));
+            return existing != null ? existing.value() : stored.get().value();
+        }
+
+        T value = loader.get();
+        CachedValue<T> fresh = new CachedValue<>(value, isTerminal.test(value));
+        // 조회하는 동안 웹훅(applyRun/applyJob)으로 더 최신 값이 들어왔으면 그 값을 유지한다.
+        CachedValue<T> current = cache.asMap().compute(key, (k, existing) ->
+                existing != null && isOlderThanCached.test(value, existing.value()) ? existing : fresh);
+        if (current != fresh) {
+            return current.value();
+        }
+        if (fresh.terminal()) {
+            persistentCacheStore.put(cacheName, key, owner, repo, value, valueType, persistentTtl);
+        }
+        return value;
+    }
+
+    private static boolean isAllCompleted(List<GithubJobDetailResponse> list) {
+        return !list.isEmpty() && list.stream().allMatch(job -> "completed".equals(job.getStatus()));
+    }
+
+    /**
+     * 조회한 Job 목록이 캐시된 목록보다 오래되었는지 (캐시에서 완료된 Job이 조회 결과에서는 진행 중이거나, 캐시에만 있는 Job이 있으면)
+     */
+    private static boolean isOlderJobs(List<GithubJobDetailResponse> loaded, List<GithubJobDetailResponse> cached) {
+        for (GithubJobDetailResponse cachedJob : cached) {
+            GithubJobDetailResponse loadedJob = loaded.stream()
+                    .filter(job -> job.getId().equals(cachedJob.getId()))
+                    .findFirst()
+                    .orElse(null);
+            if (loadedJob == null
+                    || ("completed".equals(cachedJob.getStatus()) && !"completed".equals(loadedJob.getStatus()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * GitHub의 시각(ISO-8601, UTC 'Z')은 문자열 비교로 순서를 판단할 수 있다.
+     */
+    private static boolean isOlder(String updatedAt, String cachedUpdatedAt) {
+        return updatedAt != null && cachedUpdatedAt != null && updatedAt.compareTo(cachedUpdatedAt) < 0;
+    }
+
+    private String key(String owner, String repo, Long runId) {
+        return RepoNames.normalize(safeName(owner)) + "/" + RepoNames.normalize(safeName(repo)) + "/" + runId;
+    }
+
+    private String safeName(String name) {
+        if (name == null || !SAFE_NAME.matcher(name).matches() || name.equals(".") || name.equals("..")) {
+            throw new IllegalArgumentException("잘못된 저장소 이름입니다: " + name);
+        }
+        return name;
+    }
+
+    /**
+     * 캐시된 값과 완료 여부
+     */
+    record CachedValue<T>(T value, boolean terminal) {
+    }
+
+    /**
+     * 완료된 값은 마지막 접근 후 terminal-ttl, 진행 중인 값은 저장 후 active-ttl 동안 보관한다.
+     */
+    private record StatusExpiry<T>(Duration activeTtl, Duration terminalTtl) implements Expiry<String, CachedValue<T>> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedValue<T> value, long currentTime) {
+            return (value.terminal() ? terminalTtl : activeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedValue<T> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedValue<T> value, long currentTime, long currentDuration) {
+            return value.terminal() ? terminalTtl.toNanos() : currentDuration;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.pipemate.workflow;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * 워크플로우 실행 목록의 다음 페이지 커서.
+ * <p>
+ * GitHub Link 헤더(rel="next")의 쿼리 파라미터를 저장소 이름과 함께 base64url로 감싼 불투명한 문자열이다.
+ * 클라이언트는 값을 해석하지 않고 그대로 다시 보내며, 서버는 GitHub가 준 다음 페이지 조건을 그대로 이어서 조회한다.
+ * 디코딩할 때 요청한 저장소와 다르거나, 허용하지 않는 파라미터가 있으면 400으로 거절한다. (URL 자체는 커서에 담지 않는다)
+ */
+public final class WorkflowRunCursor {
+
+    private static final Set<String> ALLOWED_PARAMS = Set.of(
+            "branch", "status", "event", "actor", "created", "per_page", "page",
+            "head_sha", "check_suite_id", "exclude_pull_requests");
+
+    private WorkflowRunCursor() {}
+
+    public static String encode(String owner, String repo, Map<String, String> params) {
+        StringJoiner query = new StringJoiner("&");
+        params.forEach((name, value) -> {
+            if (ALLOWED_PARAMS.contains(name)) {
+                query.add(name + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8));
+            }
+        });
+        String raw = owner + "/" + repo + "?" + query;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 GitHub 쿼리 파라미터로 되돌린다.
+     */
+    public static Map<String, String> decode(String cursor, String owner, String repo) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        int separator = raw.indexOf('?');
+        if (separator < 0 || !raw.substring(0, separator).equalsIgnoreCase(owner + "/" + repo)) {
+            throw invalid();
+        }
+
+        Map<String, String> params = new LinkedHashMap<>();
+        for (String pair : raw.substring(separator + 1).split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            if (!ALLOWED_PARAMS.contains(name)) {
+                throw invalid();
+            }
+            try {
+                params.put(name, equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                throw invalid();
+            }
+        }
+        return params;
+    }
+
+    private static ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+    }
+}
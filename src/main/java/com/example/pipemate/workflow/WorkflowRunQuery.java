@@ -0,0 +1,78 @@
+package com.example.pipemate.workflow;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GitHub 워크플로우 실행 목록(GET /repos/{owner}/{repo}/actions/runs) 조회 조건. null인 조건은 보내지 않는다.
+ * 조건은 모두 GitHub 쿼리 파라미터로 전달되어 GitHub 쪽에서 걸러진다.
+ *
+ * @param status  status 또는 conclusion 값 (예: in_progress, failure)
+ * @param from    생성 시각 하한 (포함)
+ * @param to      생성 시각 상한 (포함)
+ * @param perPage 페이지 크기 (1~100, GitHub 기본값 30)
+ */
+public record WorkflowRunQuery(String branch, String status, String event, String actor,
+                               Instant from, Instant to, Integer perPage, Integer page) {
+
+    public static final int MAX_PER_PAGE = 100;
+
+    public WorkflowRunQuery {
+        if (perPage != null && (perPage < 1 || perPage > MAX_PER_PAGE)) {
+            throw new IllegalArgumentException("per_page는 1~" + MAX_PER_PAGE + " 사이여야 합니다.");
+        }
+        if (page != null && page < 1) {
+            throw new IllegalArgumentException("page는 1 이상이어야 합니다.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from은 to보다 늦을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 생성 시각 구간만 지정한 조회 조건
+     */
+    public static WorkflowRunQuery created(Instant from, Instant to, int perPage, int page) {
+        return new WorkflowRunQuery(null, null, null, null, from, to, perPage, page);
+    }
+
+    /**
+     * GitHub 쿼리 파라미터로 변환한다. (순서가 고정되어 같은 조건은 같은 URL이 된다 → ETag 캐시 재사용)
+     */
+    public Map<String, String> toParams() {
+        Map<String, String> params = new LinkedHashMap<>();
+        putIfPresent(params, "branch", branch);
+        putIfPresent(params, "status", status);
+        putIfPresent(params, "event", event);
+        putIfPresent(params, "actor", actor);
+        putIfPresent(params, "created", created());
+        putIfPresent(params, "per_page", perPage);
+        putIfPresent(params, "page", page);
+        return params;
+    }
+
+    /**
+     * GitHub 검색 문법의 생성 시각 조건 (예: "a..b", ">=a", "<=b")
+     */
+    private String created() {
+        if (from != null && to != null) {
+            return format(from) + ".." + format(to);
+        }
+        if (from != null) {
+            return ">=" + format(from);
+        }
+        return to != null ? "<=" + format(to) : null;
+    }
+
+    private static String format(Instant instant) {
+        return instant.truncatedTo(ChronoUnit.SECONDS).toString();
+    }
+
+    private static void putIfPresent(Map<String, String> params, String name, Object value) {
+        if (value != null && !value.toString().isBlank()) {
+            params.put(name, value.toString());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.pipemate.workflow;
+
+import com.example.pipemate.cache.PersistentCacheStore;
+import com.example.pipemate.cache.WarmableCache;
+import com.example.pipemate.util.GithubApiClient;
+import com.example.pipemate.util.GithubFanOutExecutor;
+import com.example.pipemate.workflow.res.WorkflowListResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * .github/workflows 디렉터리의 blob SHA를 기준으로 워크플로우 트리거 정보를 증분 동기화한다.
+ * <p>
+ * 1. /actions/workflows 로 워크플로우 목록 조회
+ * 2. .github/workflows 디렉터리를 한 번 조회하여 파일별 blob SHA 확보
+ * 3. 이전에 파싱한 적 없는 blob SHA만 내용을 받아 파싱 (변경되지 않은 파일은 다시 받지 않음)
+ * <p>
+ * 워크플로우 하나를 수정한 뒤의 갱신 비용은 N+1회가 아니라 목록/디렉터리 조회 2회 + 변경된 blob 수만큼이다.
+ * 파싱 결과는 L2(PersistentCacheStore)에도 저장하여 재시작 후에도 blob을 다시 받지 않는다.
+ */
+@Component
+@Slf4j
+public class WorkflowTreeSync implements WarmableCache {
+
+    static final String WORKFLOW_DIRECTORY = ".github/workflows";
+    static final String TRIGGER_CACHE = "workflow-trigger";
+
+    private final GithubApiClient githubApiClient;
+    private final GithubFanOutExecutor fanOutExecutor;
+    private final PersistentCacheStore persistentCacheStore;
+    private final JavaType triggerType;
+    private final Duration persistentTtl;
+
+    // blob SHA → 파싱된 트리거 정보 (내용 주소 기반이므로 저장소/토큰과 무관하게 공유 가능)
+    private final Cache<String, WorkflowTriggerMetadata> triggersByBlobSha = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofDays(7))
+            .build();
+
+    public WorkflowTreeSync(
+            GithubApiClient githubApiClient,
+            GithubFanOutExecutor fanOutExecutor,
+            PersistentCacheStore persistentCacheStore,
+            ObjectMapper objectMapper,
+            @Value("${pipemate.cache.workflow-trigger.persistent-ttl:30d}") Duration persistentTtl
+    ) {
+        this.githubApiClient = githubApiClient;
+        this.fanOutExecutor = fanOutExecutor;
+        this.persistentCacheStore = persistentCacheStore;
+        this.triggerType = objectMapper.constructType(WorkflowTriggerMetadata.class);
+        this.persistentTtl = persistentTtl;
+    }
+
+    /**
+     * 워크플로우 목록과 각 워크플로우의 트리거 정보(수동 실행 여부, 브랜치)를 함께 반환한다.
+     */
+    public WorkflowListResponse sync(String owner, String repo, String token) {
+        WorkflowListResponse result = githubApiClient.fetchWorkflowDefinitions(owner, repo, token);
+        Map<String, String> shaByPath = githubApiClient.fetchDirectoryBlobShas(owner, repo, WORKFLOW_DIRECTORY, token);
+
+        // 메모리에 없는 blob은 L2에서 찾고, 그래도 없는 blob만 병렬로 조회
+        List<String> missingShas = shaByPath.values().stream()
+                .distinct()
+                .filter(sha -> triggersByBlobSha.getIfPresent(sha) == null)
+                .toList();
+        if (!missingShas.isEmpty()) {
+            Map<String, WorkflowTriggerMetadata> stored = persistentCacheStore.getAll(TRIGGER_CACHE, missingShas, triggerType);
+            triggersByBlobSha.putAll(stored);
+            missingShas = missingShas.stream().filter(sha -> !stored.containsKey(sha)).toList();
+        }
+        if (!missingShas.isEmpty()) {
+            List<WorkflowTriggerMetadata> parsed = fanOutExecutor.mapOrdered(token, missingShas,
+                    sha -> WorkflowTriggerMetadata.parse(githubApiClient.fetchBlobContent(owner, repo, sha, token)),
+                    (sha, cause) -> {
+                        // 개별 파일 조회 실패 시 목록 전체를 실패시키지 않고 부분 결과로 응답한다.
+                        log.warn("워크플로우 파일 조회 실패: {} ({})", sha, cause.toString());
+                        return null;
+                    });
+            for (int i = 0; i < missingShas.size(); i++) {
+                if (parsed.get(i) != null) {
+                    triggersByBlobSha.put(missingShas.get(i), parsed.get(i));
+                    persistentCacheStore.put(TRIGGER_CACHE, missingShas.get(i), owner, repo, parsed.get(i), triggerType, persistentTtl);
+                }
+            }
+        }
+
+        boolean partial = false;
+        for (WorkflowItem item : result.getWorkflows()) {
+            String sha = shaByPath.get(item.getPath());
+            WorkflowTriggerMetadata metadata = sha == null ? null : triggersByBlobSha.getIfPresent(sha);
+            if (metadata == null) {
+                // 디렉터리에 있는데 파싱 결과가 없으면 조회 실패 (동적 워크플로우 등 파일이 없는 경우는 제외)
+                partial |= sha != null;
+                item.setManualDispatchEnabled(false);
+                item.setAvailableBranches(new ArrayList<>());
+                continue;
+            }
+            item.setManualDispatchEnabled(metadata.manualDispatchEnabled());
+            item.setAvailableBranches(new ArrayList<>(metadata.availableBranches()));
+        }
+        result.setPartial(partial);
+        return result;
+    }
+
+    @Override
+    public String cacheName() {
+        return TRIGGER_CACHE;
+    }
+
+    /**
+     * L2에 저장된 최근 트리거 정보를 메모리에 올린다. (재시작 후 워밍업)
+     */
+    @Override
+    public int warmUp(int limit) {
+        int loaded = 0;
+        for (PersistentCacheStore.Stored<WorkflowTriggerMetadata> stored : persistentCacheStore.<WorkflowTriggerMetadata>recent(TRIGGER_CACHE, triggerType, limit)) {
+            if (triggersByBlobSha.asMap().putIfAbsent(stored.key(), stored.value()) == null) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.pipemate.workflow;
+
+import lombok.extern.slf4j.Slf4j;
+import org.yaml.snakeyaml.Yaml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 워크플로우 YAML 파일에서 파싱한 트리거 정보.
+ * 내용이 같으면 blob SHA도 같으므로 blob SHA 단위로 캐싱하여 재사용한다.
+ *
+ * @param manualDispatchEnabled 수동 실행 가능 여부 (workflow_dispatch 존재 여부)
+ * @param availableBranches     on.push.branches 목록
+ */
+@Slf4j
+public record WorkflowTriggerMetadata(boolean manualDispatchEnabled, List<String> availableBranches) {
+
+    public static WorkflowTriggerMetadata parse(String yamlText) {
+        return new WorkflowTriggerMetadata(yamlText.contains("workflow_dispatch"), parseBranches(yamlText));
+    }
+
+    private static List<String> parseBranches(String yamlText) {
+        try {
+            Yaml yaml = new Yaml();
+            Map<String, Object> parsed = yaml.load(yamlText);
+            Object on = parsed.get("on");
+
+            if (on instanceof Map<?, ?> onMap) {
+                Object push = onMap.get("push");
+
+                if (push instanceof Map) {
+                    Object branches = ((Map<?, ?>) push).get("branches");
+
+                    if (branches instanceof List<?>) {
+                        return ((List<?>) branches).stream().map(Object::toString).collect(Collectors.toList());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("브랜치 파싱 실패: {}", e.getMessage());
+        }
+        return new ArrayList<>();
+    }
+}
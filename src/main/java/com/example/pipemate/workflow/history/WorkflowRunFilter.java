@@ -0,0 +1,53 @@
+package com.example.pipemate.workflow.history;
+
+import com.example.pipemate.util.RepoNames;
+import com.example.pipemate.workflow.history.entity.WorkflowRunRecord;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실행 이력 조회 조건. null인 조건은 적용하지 않는다.
+ *
+ * @param from 생성 시각 하한 (포함)
+ * @param to   생성 시각 상한 (미포함)
+ */
+public record WorkflowRunFilter(String branch, String status, String conclusion, String event, String actor,
+                                Long workflowId, Instant from, Instant to) {
+
+    public Specification<WorkflowRunRecord> toSpecification(String owner, String repo) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("owner"), RepoNames.normalize(owner)));
+            predicates.add(cb.equal(root.get("repo"), RepoNames.normalize(repo)));
+            if (branch != null) {
+                predicates.add(cb.equal(root.get("headBranch"), branch));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (conclusion != null) {
+                predicates.add(cb.equal(root.get("conclusion"), conclusion));
+            }
+            if (event != null) {
+                predicates.add(cb.equal(root.get("event"), event));
+            }
+            if (actor != null) {
+                predicates.add(cb.equal(root.get("actor"), actor));
+            }
+            if (workflowId != null) {
+                predicates.add(cb.equal(root.get("workflowId"), workflowId));
+            }
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), from));
+            }
+            if (to != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), to));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.pipemate.workflow.history;
+
+import com.example.pipemate.workflow.res.WorkflowRunCountsResponse;
+import com.example.pipemate.workflow.res.WorkflowRunHistoryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/api/github/workflow-runs/history")
+@RequiredArgsConstructor
+public class WorkflowRunHistoryController {
+
+    private final WorkflowRunHistoryService workflowRunHistoryService;
+
+    @GetMapping
+    @Operation(summary = "로컬에 동기화된 워크플로우 실행 이력 조회",
+            description = "GitHub 실행 목록을 증분 동기화한 로컬 이력에서 조건(branch, status, conclusion, event, actor, workflow_id, 생성 시각 from~to)에 맞는 실행을 최신순으로 조회합니다. page는 1부터 시작합니다.")
+    public ResponseEntity<WorkflowRunHistoryResponse> getRunHistory(
+            @RequestParam String owner,
+            @RequestParam String repo,
+            @RequestParam(required = false) String branch,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String conclusion,
+            @RequestParam(required = false) String event,
+            @RequestParam(required = false) String actor,
+            @RequestParam(name = "workflow_id", required = false) Long workflowId,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(name = "per_page", defaultValue = "30") int perPage,
+            HttpServletRequest request
+    ) {
+        WorkflowRunFilter filter = new WorkflowRunFilter(branch, status, conclusion, event, actor, workflowId, from, to);
+        return ResponseEntity.ok(workflowRunHistoryService.getRuns(owner, repo, filter, page, perPage, extractToken(request)));
+    }
+
+    @GetMapping("/counts")
+    @Operation(summary = "로컬에 동기화된 워크플로우 실행 이력 집계",
+            description = "조건에 맞는 실행 수를 상태(status)와 결과(conclusion)별로 집계하고, 기간 내 실패한 Job을 이름별로 집계합니다.")
+    public ResponseEntity<WorkflowRunCountsResponse> getRunCounts(
+            @RequestParam String owner,
+            @RequestParam String repo,
+            @RequestParam(required = false) String branch,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String conclusion,
+            @RequestParam(required = false) String event,
+            @RequestParam(required = false) String actor,
+            @RequestParam(name = "workflow_id", required = false) Long workflowId,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            HttpServletRequest request
+    ) {
+        WorkflowRunFilter filter = new WorkflowRunFilter(branch, status, conclusion, event, actor, workflowId, from, to);
+        return ResponseEntity.ok(workflowRunHistoryService.getCounts(owner, repo, filter, extractToken(request)));
+    }
+
+    private String extractToken(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        if (token == null || !token.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Authorization header must be provided in 'Bearer ghp_xxx' format");
+        }
+        return token.substring("Bearer ".length()).trim();
+    }
+}
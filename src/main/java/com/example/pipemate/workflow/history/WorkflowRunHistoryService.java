@@ -0,0 +1,86 @@
+package com.example.pipemate.workflow.history;
+
+import com.example.pipemate.util.GithubRepoAccessVerifier;
+import com.example.pipemate.util.RepoNames;
+import com.example.pipemate.workflow.history.entity.WorkflowRunRecord;
+import com.example.pipemate.workflow.history.entity.WorkflowRunSyncState;
+import com.example.pipemate.workflow.history.repository.WorkflowJobRecordRepository;
+import com.example.pipemate.workflow.history.repository.WorkflowRunRecordRepository;
+import com.example.pipemate.workflow.res.WorkflowRunCountsResponse;
+import com.example.pipemate.workflow.res.WorkflowRunHistoryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로컬 실행 이력 조회.
+ * 조회 전에 토큰의 저장소 접근 권한을 확인하고, 마지막 동기화가 오래되었으면 증분 동기화한 뒤 로컬 DB에서 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkflowRunHistoryService {
+
+    private static final int MAX_PER_PAGE = 100;
+
+    private final GithubRepoAccessVerifier accessVerifier;
+    private final WorkflowRunHistorySync historySync;
+    private final WorkflowRunRecordRepository runRepository;
+    private final WorkflowJobRecordRepository jobRepository;
+
+    /**
+     * 조건에 맞는 실행을 생성 시각 역순으로 조회한다. (page는 1부터)
+     */
+    public WorkflowRunHistoryResponse getRuns(String owner, String repo, WorkflowRunFilter filter, int page, int perPage, String token) {
+        if (page < 1 || perPage < 1 || perPage > MAX_PER_PAGE) {
+            throw new IllegalArgumentException("page는 1 이상, per_page는 1~" + MAX_PER_PAGE + " 사이여야 합니다.");
+        }
+        WorkflowRunSyncState state = prepare(owner, repo, token);
+
+        Page<WorkflowRunRecord> result = runRepository.findAll(filter.toSpecification(owner, repo),
+                PageRequest.of(page - 1, perPage, Sort.by(Sort.Direction.DESC, "createdAt", "id")));
+        return new WorkflowRunHistoryResponse(result.getTotalElements(), page, perPage, syncedAt(state),
+                result.getContent().stream().map(WorkflowRunRecord::toResponse).toList());
+    }
+
+    /**
+     * 조건에 맞는 실행 수를 상태/결과별로 집계하고, 기간 내 실패한 Job을 이름별로 센다.
+     * Job 목록을 아직 받지 못한 완료 실행이 있으면 failed_jobs_partial로 알린다.
+     */
+    public WorkflowRunCountsResponse getCounts(String owner, String repo, WorkflowRunFilter filter, String token) {
+        WorkflowRunSyncState state = prepare(owner, repo, token);
+
+        Specification<WorkflowRunRecord> specification = filter.toSpecification(owner, repo);
+        Map<String, Long> byStatus = runRepository.countGroupedBy(specification, "status");
+        Map<String, Long> byConclusion = runRepository.countGroupedBy(specification, "conclusion");
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+
+        Map<String, Long> failedJobs = new LinkedHashMap<>();
+        Instant from = filter.from() == null ? Instant.EPOCH : filter.from();
+        Instant to = filter.to() == null ? Instant.now().plusSeconds(60) : filter.to();
+        String normalizedOwner = RepoNames.normalize(owner);
+        String normalizedRepo = RepoNames.normalize(repo);
+        for (Object[] row : jobRepository.countFailuresByName(normalizedOwner, normalizedRepo, from, to)) {
+            failedJobs.put((String) row[0], (Long) row[1]);
+        }
+        boolean failedJobsPartial = runRepository.countCompletedWithoutJobs(normalizedOwner, normalizedRepo, from, to) > 0;
+        return new WorkflowRunCountsResponse(total, byStatus, byConclusion, failedJobs, failedJobsPartial, syncedAt(state));
+    }
+
+    private WorkflowRunSyncState prepare(String owner, String repo, String token) {
+        accessVerifier.verify(owner, repo, token);
+        return historySync.syncIfStale(owner, repo, token);
+    }
+
+    private String syncedAt(WorkflowRunSyncState state) {
+        return state == null ? null : state.getLastSyncedAt().toString();
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.pipemate.workflow.history;
+
+import com.example.pipemate.util.GithubApiClient;
+import com.example.pipemate.util.GithubFanOutExecutor;
+import com.example.pipemate.util.GithubRequestPriority;
+import com.example.pipemate.util.RepoNames;
+import com.example.pipemate.workflow.WorkflowRunQuery;
+import com.example.pipemate.workflow.history.entity.WorkflowRunRecord;
+import com.example.pipemate.workflow.history.entity.WorkflowRunSyncState;
+import com.example.pipemate.workflow.history.repository.WorkflowRunRecordRepository;
+import com.example.pipemate.workflow.history.repository.WorkflowRunSyncStateRepository;
+import com.example.pipemate.workflow.res.GithubJobDetailResponse;
+import com.example.pipemate.workflow.res.WorkflowRunListResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GitHub 실행 목록을 로컬 이력(workflow_run_history)으로 증분 동기화한다.
+ * <p>
+ * 1. 저장소별 watermark(생성 시각) 이후에 생성된 실행만 created 조건으로 페이지 단위 조회한다. (첫 동기화는 initial-lookback 기간)
+ * 2. GitHub는 created 조건당 1,000건까지만 돌려주므로, 한도에 닿으면 마지막으로 받은 생성 시각을 상한으로 구간을 좁혀 이어서 조회한다.
+ * 3. 페이지마다 바뀐 실행만 upsert 하고, Job 목록을 아직 받지 않은 완료 실행(jobsSyncedAt이 null)은 최근 것부터 Job 목록을 받아 저장한다.
+ *    (동기화당 jobs-per-sync개까지, 남은 실행은 다음 동기화에서 이어서 채운다)
+ * 4. 다음 watermark는 아직 진행 중인 가장 오래된 실행의 생성 시각(active-lookback 이내)으로 두어, 진행 중이던 실행의 완료도 다음 동기화에서 반영한다.
+ * 5. max-pages에 걸려 watermark까지 내려가지 못했으면 watermark는 그대로 두고, 받은 것 중 가장 오래된 생성 시각(resumeBefore)과
+ *    끝까지 받았을 때 쓸 watermark(pendingWatermark)를 남긴다. 다음 동기화는 resumeBefore부터 watermark까지 이어서 조회하고,
+ *    끝까지 내려가면 watermark를 pendingWatermark로 옮긴다. (그 사이는 이전 동기화에서 받았으므로 빈 구간이 생기지 않는다)
+ * <p>
+ * 같은 저장소의 동시 동기화는 하나로 합치고, min-interval 안에 다시 요청되면 건너뛴다.
+ */
+@Component
+@Slf4j
+public class WorkflowRunHistorySync {
+
+    private static final int PER_PAGE = 100;
+    // created 조건을 사용할 때 GitHub가 돌려주는 최대 건수
+    private static final int MAX_RESULTS_PER_QUERY = 1000;
+
+    private final GithubApiClient githubApiClient;
+    private final GithubFanOutExecutor fanOutExecutor;
+    private final WorkflowRunHistoryWriter writer;
+    private final WorkflowRunRecordRepository runRepository;
+    private final WorkflowRunSyncStateRepository stateRepository;
+    private final Duration minInterval;
+    private final Duration initialLookback;
+    private final Duration activeLookback;
+    private final int maxPages;
+    private final int jobsPerSync;
+
+    private final Map<String, CompletableFuture<WorkflowRunSyncState>> inFlight = new ConcurrentHashMap<>();
+
+    public WorkflowRunHistorySync(
+            GithubApiClient githubApiClient,
+            GithubFanOutExecutor fanOutExecutor,
+            WorkflowRunHistoryWriter writer,
+            WorkflowRunRecordRepository runRepository,
+            WorkflowRunSyncStateRepository stateRepository,
+            @Value("${pipemate.history.min-interval:30s}") Duration minInterval,
+            @Value("${pipemate.history.initial-lookback:90d}") Duration initialLookback,
+            @Value("${pipemate.history.active-lookback:1d}") Duration activeLookback,
+            @Value("${pipemate.history.max-pages:50}") int maxPages,
+            @Value("${pipemate.history.jobs-per-sync:30}") int jobsPerSync
+    ) {
+        this.githubApiClient = githubApiClient;
+        this.fanOutExecutor = fanOutExecutor;
+        this.writer = writer;
+        this.runRepository = runRepository;
+        this.stateRepository = stateRepository;
+        this.minInterval = minInterval;
+        this.initialLookback = initialLookback;
+        this.activeLookback = activeLookback;
+        this.maxPages = maxPages;
+        this.jobsPerSync = jobsPerSync;
+    }
+
+    /**
+     * 마지막 동기화 후 min-interval이 지났으면 동기화하고, 현재 동기화 상태를 반환한다.
+     * 이전에 동기화한 적이 있으면 동기화에 실패해도 예외 대신 이전 상태를 반환한다.
+     */
+    public WorkflowRunSyncState syncIfStale(String owner, String repo, String token) {
+        String key = RepoNames.normalize(owner) + "/" + RepoNames.normalize(repo);
+        WorkflowRunSyncState state = stateRepository.findById(key).orElse(null);
+        if (state != null && state.getLastSyncedAt().plus(minInterval).isAfter(Instant.now())) {
+            return state;
+        }
+        try {
+            return syncShared(key, owner, repo, token, state);
+        } catch (RuntimeException e) {
+            if (state == null) {
+                throw e;
+            }
+            // 이미 받은 이력이 있으면 동기화 실패(rate limit 등)와 무관하게 로컬 이력으로 응답한다.
+            log.warn("[WorkflowRunHistorySync] {} 동기화 실패, 기존 이력으로 응답: {}", key, e.toString());
+            return state;
+        }
+    }
+
+    private WorkflowRunSyncState syncShared(String key, String owner, String repo, String token, WorkflowRunSyncState state) {
+        CompletableFuture<WorkflowRunSyncState> sync = new CompletableFuture<>();
+        CompletableFuture<WorkflowRunSyncState> existing = inFlight.putIfAbsent(key, sync);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            WorkflowRunSyncState synced = GithubRequestPriority.background(() -> sync(key, owner, repo, token, state));
+            sync.complete(synced);
+            return synced;
+        } catch (RuntimeException e) {
+            sync.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, sync);
+        }
+    }
+
+    private WorkflowRunSyncState sync(String key, String owner, String repo, String token, WorkflowRunSyncState state) {
+        Instant startedAt = Instant.now();
+        // GitHub의 created 조건은 초 단위이므로 watermark도 초 단위로 맞춘다.
+        Instant watermark = (state == null ? startedAt.minus(initialLookback) : state.getCreatedWatermark()).truncatedTo(ChronoUnit.SECONDS);
+        Instant activeFloor = startedAt.minus(activeLookback);
+
+        // 이전 동기화가 max-pages에서 끊겼으면 그 아래부터 이어서 조회한다.
+        Instant resumeBefore = state == null ? null : state.getResumeBefore();
+
+        Instant newest = null;
+        Instant oldest = null;
+        Instant oldestActive = null;
+        boolean reachedWatermark = false;
+        int inserted = 0;
+        int updated = 0;
+        int pages = 0;
+
+        Instant upper = resumeBefore;
+        window:
+        while (pages < maxPages) {
+            int fetchedInWindow = 0;
+            Instant oldestInWindow = null;
+            for (int page = 1; page * PER_PAGE <= MAX_RESULTS_PER_QUERY && pages < maxPages; page++) {
+                WorkflowRunQuery query = WorkflowRunQuery.created(watermark, upper, PER_PAGE, page);
+                WorkflowRunListResponse response = githubApiClient.fetchWorkflowRunsPage(owner, repo, query.toParams(), token).body();
+                pages++;
+                List<WorkflowRunListResponse.WorkflowRun> runs = response.getWorkflowRuns() == null ? List.of() : response.getWorkflowRuns();
+
+                WorkflowRunHistoryWriter.UpsertResult result = writer.upsertRuns(owner, repo, runs);
+                inserted += result.inserted();
+                updated += result.updated();
+
+                for (WorkflowRunListResponse.WorkflowRun run : runs) {
+                    Instant createdAt = Instant.parse(run.getCreatedAt());
+                    newest = newest == null || createdAt.isAfter(newest) ? createdAt : newest;
+                    oldest = oldest == null || createdAt.isBefore(oldest) ? createdAt : oldest;
+                    oldestInWindow = oldestInWindow == null || createdAt.isBefore(oldestInWindow) ? createdAt : oldestInWindow;
+                    if (!"completed".equals(run.getStatus()) && createdAt.isAfter(activeFloor)
+                            && (oldestActive == null || createdAt.isBefore(oldestActive))) {
+                        oldestActive = createdAt;
+                    }
+                }
+                fetchedInWindow += runs.size();
+                if (runs.size() < PER_PAGE) {
+                    reachedWatermark = true;
+                    break window;
+                }
+            }
+            if (fetchedInWindow < MAX_RESULTS_PER_QUERY) {
+                // 마지막 페이지까지 가득 찼는데 조회 한도 전이면 max-pages에서 끊긴 것이다.
+                break;
+            }
+            // 조회 한도에 닿았으면 받은 것 중 가장 오래된 생성 시각을 상한으로 남은 구간을 이어서 조회한다. (경계의 중복은 upsert로 흡수)
+            upper = oldestInWindow;
+        }
+
+        int jobRuns = syncJobs(owner, repo, token);
+
+        WorkflowRunSyncState.WorkflowRunSyncStateBuilder next = WorkflowRunSyncState.builder()
+                .id(key)
+                .lastSyncedAt(startedAt);
+        // 끝까지 받았을 때의 다음 watermark (이어서 조회 중이면 처음 끊긴 동기화에서 정해 둔 값)
+        Instant pendingWatermark = resumeBefore != null ? state.getPendingWatermark()
+                : oldestActive != null ? oldestActive : newest != null ? newest : watermark;
+        if (reachedWatermark) {
+            // 이어서 받은 구간에 진행 중인 실행이 있으면 그 시각이 더 이르다. (resumeBefore 이하)
+            next.createdWatermark(resumeBefore != null && oldestActive != null ? oldestActive : pendingWatermark);
+        } else {
+            // max-pages에서 끊겼으면 watermark를 옮기지 않고, 다음 동기화가 이어서 내려갈 위치를 남긴다.
+            next.createdWatermark(watermark)
+                    .resumeBefore(oldest != null ? oldest : resumeBefore)
+                    .pendingWatermark(pendingWatermark);
+        }
+        WorkflowRunSyncState synced = next.build();
+        stateRepository.save(synced);
+        log.info("[WorkflowRunHistorySync] {} 동기화: 페이지 {}개, 추가 {}건, 갱신 {}건, Job 수집 대상 {}건{}",
+                key, pages, inserted, updated, jobRuns,
+                reachedWatermark ? "" : ", max-pages 도달 (" + synced.getResumeBefore() + " 이전은 다음 동기화에서 이어서 조회)");
+        return synced;
+    }
+
+    /**
+     * Job 목록을 아직 받지 않은 완료 실행의 Job 목록을 병렬로 받아 저장하고, 대상 실행 수를 반환한다. (최근 실행부터 jobs-per-sync개까지)
+     * 조회에 실패한 실행은 표시하지 않으므로 다음 동기화에서 다시 시도한다.
+     */
+    private int syncJobs(String owner, String repo, String token) {
+        List<WorkflowRunRecord> targets = runRepository.findCompletedWithoutJobs(
+                RepoNames.normalize(owner), RepoNames.normalize(repo), PageRequest.of(0, jobsPerSync));
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        List<List<GithubJobDetailResponse>> jobs = fanOutExecutor.mapOrdered(token, targets,
+                run -> githubApiClient.fetchWorkflowJobs(owner, repo, run.getId(), token),
+                (run, cause) -> {
+                    log.warn("[WorkflowRunHistorySync] 실행 {} Job 조회 실패: {}", run.getId(), cause.toString());
+                    return null;
+                });
+        for (int i = 0; i < targets.size(); i++) {
+            if (jobs.get(i) != null) {
+                writer.upsertJobs(owner, repo, targets.get(i).getId(), targets.get(i).getCreatedAt(), jobs.get(i));
+            }
+        }
+        return targets.size();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.pipemate.workflow.history;
+
+import com.example.pipemate.workflow.history.entity.WorkflowJobRecord;
+import com.example.pipemate.workflow.history.entity.WorkflowRunRecord;
+import com.example.pipemate.workflow.history.repository.WorkflowJobRecordRepository;
+import com.example.pipemate.workflow.history.repository.WorkflowRunRecordRepository;
+import com.example.pipemate.workflow.res.GithubJobDetailResponse;
+import com.example.pipemate.workflow.res.WorkflowRunListResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 실행/Job 이력 upsert.
+ * <p>
+ * - 기존 항목은 id 목록으로 한 번에 읽고(IN 조회), 내용이 바뀐 항목만 갱신한다. (변경 감지 → 일괄 UPDATE)
+ * - 새 항목은 SELECT 없이 INSERT 하며, hibernate.jdbc.batch_size 단위로 묶어 보낸다. (JpaBatchConfig)
+ * - 웹훅과 동기화가 같은 항목을 동시에 INSERT 하면 한쪽이 기본 키 충돌로 실패하므로, 그 배치는 새 트랜잭션에서 한 번 더 실행한다.
+ *   (다시 읽으면 상대가 넣은 행이 보이므로 UPDATE로 처리된다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkflowRunHistoryWriter {
+
+    private final WorkflowRunRecordRepository runRepository;
+    private final WorkflowJobRecordRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 실행 목록을 upsert한다.
+     * 재실행 등으로 다시 완료(completed) 상태가 된 실행은 Job 목록을 다시 받도록 jobsSyncedAt을 비운다.
+     */
+    public UpsertResult upsertRuns(String owner, String repo, List<WorkflowRunListResponse.WorkflowRun> runs) {
+        return retryOnConflict(() -> doUpsertRuns(owner, repo, runs));
+    }
+
+    private UpsertResult doUpsertRuns(String owner, String repo, List<WorkflowRunListResponse.WorkflowRun> runs) {
+        Map<Long, WorkflowRunRecord> existing = runRepository.findAllById(runs.stream().map(WorkflowRunListResponse.WorkflowRun::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(WorkflowRunRecord::getId, Function.identity()));
+
+        Map<Long, WorkflowRunRecord> inserts = new LinkedHashMap<>();
+        int updated = 0;
+        for (WorkflowRunListResponse.WorkflowRun run : runs) {
+            WorkflowRunRecord record = existing.get(run.getId());
+            if (record == null) {
+                WorkflowRunRecord created = WorkflowRunRecord.from(owner, repo, run);
+                // 같은 배치 안의 중복(페이지 경계에서 겹친 실행)은 마지막 값만 남긴다.
+                inserts.put(created.getId(), created);
+                continue;
+            }
+            // 웹훅처럼 순서가 뒤바뀌어 도착한 오래된 상태로 덮어쓰지 않는다.
+            if (!record.differsFrom(run) || record.isNewerThan(run)) {
+                continue;
+            }
+            boolean wasCompleted = isCompleted(record.getStatus());
+            record.apply(run);
+            updated++;
+            if (!wasCompleted && isCompleted(record.getStatus())) {
+                record.setJobsSyncedAt(null);
+            }
+        }
+        // 충돌을 이 트랜잭션 안에서 드러내기 위해 바로 flush 한다.
+        runRepository.saveAllAndFlush(inserts.values());
+        return new UpsertResult(inserts.size(), updated);
+    }
+
+    /**
+     * 동기화에서 받은 실행의 전체 Job 목록을 upsert하고, 실행에 Job 목록을 받았다고 표시한다.
+     */
+    public void upsertJobs(String owner, String repo, Long runId, Instant runCreatedAt, List<GithubJobDetailResponse> jobs) {
+        retryOnConflict(() -> {
+            doUpsertJobs(owner, repo, runId, runCreatedAt, jobs);
+            runRepository.markJobsSynced(runId, Instant.now());
+            return null;
+        });
+    }
+
+    private void doUpsertJobs(String owner, String repo, Long runId, Instant runCreatedAt, List<GithubJobDetailResponse> jobs) {
+        Map<Long, WorkflowJobRecord> existing = jobRepository.findAllById(jobs.stream().map(GithubJobDetailResponse::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(WorkflowJobRecord::getId, Function.identity()));
+
+        List<WorkflowJobRecord> inserts = new ArrayList<>();
+        for (GithubJobDetailResponse job : jobs) {
+            WorkflowJobRecord record = existing.get(job.getId());
+            if (record == null) {
+                inserts.add(WorkflowJobRecord.from(owner, repo, runId, runCreatedAt, job));
+            } else {
+                // 늦게 도착한 웹훅이 완료된 Job을 진행 중으로 되돌리지 않게 한다. (WorkflowRunCache.applyJob과 같은 규칙)
+                if (!isCompleted(record.getStatus()) || isCompleted(job.getStatus())) {
+                    record.apply(job);
+                }
+                if (record.getRunCreatedAt() == null) {
+                    record.setRunCreatedAt(runCreatedAt);
+                }
+            }
+        }
+        jobRepository.saveAllAndFlush(inserts);
+    }
+
+    /**
+     * 웹훅(workflow_job)으로 받은 Job 하나를 반영한다. 실행이 아직 이력에 없으면 생성 시각 없이 저장한다.
+     */
+    public void upsertJob(String owner, String repo, Long runId, GithubJobDetailResponse job) {
+        retryOnConflict(() -> {
+            Instant runCreatedAt = runRepository.findById(runId).map(WorkflowRunRecord::getCreatedAt).orElse(null);
+            doUpsertJobs(owner, repo, runId, runCreatedAt, List.of(job));
+            return null;
+        });
+    }
+
+    /**
+     * 한 트랜잭션으로 실행하고, 동시에 같은 항목을 INSERT 한 쪽과 충돌하면 새 트랜잭션에서 한 번 더 실행한다.
+     */
+    private <T> T retryOnConflict(Supplier<T> upsert) {
+        try {
+            return transactionTemplate.execute(status -> upsert.get());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[WorkflowRunHistoryWriter] 동시 INSERT 충돌, 갱신으로 재시도: {}", e.getMostSpecificCause().toString());
+            return transactionTemplate.execute(status -> upsert.get());
+        }
+    }
+
+    private static boolean isCompleted(String status) {
+        return "completed".equals(status);
+    }
+
+    public record UpsertResult(int inserted, int updated) {
+    }
+}
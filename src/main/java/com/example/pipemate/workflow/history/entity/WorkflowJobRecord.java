@@ -0,0 +1,82 @@
+package com.example.pipemate.workflow.history.entity;
+
+import com.example.pipemate.util.RepoNames;
+import com.example.pipemate.workflow.res.GithubJobDetailResponse;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * 로컬에 보관하는 워크플로우 Job 이력.
+ * 실행 생성 시각(runCreatedAt)을 함께 저장하여 기간별 Job 집계를 실행 테이블 조인 없이 처리한다.
+ */
+@Entity
+@Table(name = "workflow_job_history", indexes = {
+        @Index(name = "idx_job_history_run", columnList = "run_id"),
+        @Index(name = "idx_job_history_repo_created", columnList = "owner, repo, run_created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "id")
+public class WorkflowJobRecord implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private String repo;
+
+    private String name;
+
+    private String status;
+
+    private String conclusion;
+
+    @Column(name = "run_created_at")
+    private Instant runCreatedAt;
+
+    @Transient
+    @Builder.Default
+    private boolean newRecord = true;
+
+    public static WorkflowJobRecord from(String owner, String repo, Long runId, Instant runCreatedAt, GithubJobDetailResponse job) {
+        WorkflowJobRecord record = WorkflowJobRecord.builder()
+                .id(job.getId())
+                .runId(runId)
+                .owner(RepoNames.normalize(owner))
+                .repo(RepoNames.normalize(repo))
+                .runCreatedAt(runCreatedAt)
+                .build();
+        record.apply(job);
+        return record;
+    }
+
+    public void apply(GithubJobDetailResponse job) {
+        this.name = job.getName();
+        this.status = job.getStatus();
+        // GithubJobDetailResponse.from은 null 값을 "null" 문자열로 옮긴다.
+        this.conclusion = "null".equals(job.getConclusion()) ? null : job.getConclusion();
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newRecord = false;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.pipemate.workflow.history.entity;
+
+import com.example.pipemate.util.RepoNames;
+import com.example.pipemate.workflow.res.WorkflowRunListResponse;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 로컬에 보관하는 워크플로우 실행(run) 이력.
+ * id는 GitHub run id를 그대로 사용한다. (새 항목은 SELECT 없이 바로 INSERT 하도록 Persistable 구현)
+ * jobsSyncedAt은 완료된 실행의 Job 목록을 받아 저장한 시각이며, null인 완료 실행은 동기화 때 Job 목록을 채운다.
+ */
+@Entity
+@Table(name = "workflow_run_history", indexes = {
+        @Index(name = "idx_run_history_repo_created", columnList = "owner, repo, created_at"),
+        @Index(name = "idx_run_history_repo_branch", columnList = "owner, repo, head_branch, created_at"),
+        @Index(name = "idx_run_history_repo_status", columnList = "owner, repo, status, conclusion"),
+        @Index(name = "idx_run_history_repo_workflow", columnList = "owner, repo, workflow_id, created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "id")
+public class WorkflowRunRecord implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private String repo;
+
+    @Column(name = "workflow_id")
+    private Long workflowId;
+
+    private String name;
+
+    private String path;
+
+    @Column(name = "head_branch")
+    private String headBranch;
+
+    @Column(name = "head_sha")
+    private String headSha;
+
+    private String event;
+
+    private String actor;
+
+    private String status;
+
+    private String conclusion;
+
+    @Column(name = "run_number")
+    private Long runNumber;
+
+    @Column(name = "run_attempt")
+    private Integer runAttempt;
+
+    @Column(name = "display_title", length = 1000)
+    private String displayTitle;
+
+    @Column(name = "html_url", length = 500)
+    private String htmlUrl;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "jobs_synced_at")
+    private Instant jobsSyncedAt;
+
+    @Transient
+    @Builder.Default
+    private boolean newRecord = true;
+
+    public static WorkflowRunRecord from(String owner, String repo, WorkflowRunListResponse.WorkflowRun run) {
+        WorkflowRunRecord record = WorkflowRunRecord.builder()
+                .id(run.getId())
+                .owner(RepoNames.normalize(owner))
+                .repo(RepoNames.normalize(repo))
+                .build();
+        record.apply(run);
+        return record;
+    }
+
+    /**
+     * GitHub에서 받은 실행과 내용이 다른지 확인한다. (updated_at, 상태, 재실행 횟수 기준)
+     */
+    public boolean differsFrom(WorkflowRunListResponse.WorkflowRun run) {
+        return !Objects.equals(updatedAt, parseInstant(run.getUpdatedAt()))
+                || !Objects.equals(status, run.getStatus())
+                || !Objects.equals(conclusion, run.getConclusion())
+                || !Objects.equals(runAttempt, run.getRunAttempt());
+    }
+
+    public boolean isNewerThan(WorkflowRunListResponse.WorkflowRun run) {
+        Instant other = parseInstant(run.getUpdatedAt());
+        return updatedAt != null && other != null && updatedAt.isAfter(other);
+    }
+
+    public void apply(WorkflowRunListResponse.WorkflowRun run) {
+        this.workflowId = run.getWorkflowId();
+        this.name = run.getName();
+        this.path = run.getPath();
+        this.headBranch = run.getHeadBranch();
+        this.headSha = run.getHeadSha();
+        this.event = run.getEvent();
+        this.actor = run.getActor() == null ? null : run.getActor().getLogin();
+        this.status = run.getStatus();
+        this.conclusion = run.getConclusion();
+        this.runNumber = run.getRunNumber();
+        this.runAttempt = run.getRunAttempt();
+        this.displayTitle = run.getDisplayTitle();
+        this.htmlUrl = run.getHtmlUrl();
+        this.createdAt = parseInstant(run.getCreatedAt());
+        this.updatedAt = parseInstant(run.getUpdatedAt());
+    }
+
+    public WorkflowRunListResponse.WorkflowRun toResponse() {
+        WorkflowRunListResponse.WorkflowRun run = new WorkflowRunListResponse.WorkflowRun();
+        run.setId(id);
+        run.setName(name);
+        run.setPath(path);
+        run.setHeadBranch(headBranch);
+        run.setHeadSha(headSha);
+        run.setEvent(event);
+        run.setDisplayTitle(displayTitle);
+        run.setWorkflowId(workflowId);
+        run.setRunNumber(runNumber);
+        run.setRunAttempt(runAttempt);
+        if (actor != null) {
+            WorkflowRunListResponse.Actor runActor = new WorkflowRunListResponse.Actor();
+            runActor.setLogin(actor);
+            run.setActor(runActor);
+        }
+        run.setStatus(status);
+        run.setConclusion(conclusion);
+        run.setCreatedAt(createdAt == null ? null : createdAt.toString());
+        run.setUpdatedAt(updatedAt == null ? null : updatedAt.toString());
+        run.setHtmlUrl(htmlUrl);
+        return run;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newRecord = false;
+    }
+
+    private static Instant parseInstant(String value) {
+        return value == null ? null : Instant.parse(value);
+    }
+}
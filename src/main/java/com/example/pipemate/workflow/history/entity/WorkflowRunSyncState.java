@@ -0,0 +1,41 @@
+package com.example.pipemate.workflow.history.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 저장소별 실행 이력 동기화 상태.
+ * 다음 동기화는 watermark(생성 시각) 이후에 생성된 실행만 조회한다.
+ * resumeBefore가 있으면 이전 동기화가 max-pages에서 끊긴 것이며, 그 시각부터 watermark까지가 아직 받지 못한 구간이다.
+ * 그 구간을 다 받으면 watermark는 pendingWatermark로 옮긴다.
+ */
+@Entity
+@Table(name = "workflow_run_sync_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "id")
+public class WorkflowRunSyncState {
+
+    /**
+     * owner/repo
+     */
+    @Id
+    private String id;
+
+    @Column(name = "created_watermark", nullable = false)
+    private Instant createdWatermark;
+
+    @Column(name = "last_synced_at", nullable = false)
+    private Instant lastSyncedAt;
+
+    @Column(name = "resume_before")
+    private Instant resumeBefore;
+
+    @Column(name = "pending_watermark")
+    private Instant pendingWatermark;
+}
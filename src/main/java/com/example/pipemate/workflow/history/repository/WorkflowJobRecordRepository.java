@@ -0,0 +1,25 @@
+package com.example.pipemate.workflow.history.repository;
+
+import com.example.pipemate.workflow.history.entity.WorkflowJobRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface WorkflowJobRecordRepository extends JpaRepository<WorkflowJobRecord, Long> {
+
+    /**
+     * 기간 내 실패한 Job을 이름별로 센다. (실패 횟수 내림차순, [이름, 횟수])
+     */
+    @Query("""
+            select j.name, count(j) from WorkflowJobRecord j
+            where j.owner = :owner and j.repo = :repo and j.conclusion = 'failure'
+              and j.runCreatedAt >= :from and j.runCreatedAt < :to
+            group by j.name
+            order by count(j) desc
+            """)
+    List<Object[]> countFailuresByName(String owner, String repo, Instant from, Instant to);
+}
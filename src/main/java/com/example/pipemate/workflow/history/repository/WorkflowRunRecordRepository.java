@@ -0,0 +1,44 @@
+package com.example.pipemate.workflow.history.repository;
+
+import com.example.pipemate.workflow.history.entity.WorkflowRunRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface WorkflowRunRecordRepository extends JpaRepository<WorkflowRunRecord, Long>,
+        JpaSpecificationExecutor<WorkflowRunRecord>, WorkflowRunRecordRepositoryCustom {
+
+    /**
+     * Job 목록을 아직 받지 않은 완료 실행을 최근 생성 순으로 조회한다.
+     */
+    @Query("""
+            select r from WorkflowRunRecord r
+            where r.owner = :owner and r.repo = :repo and r.status = 'completed' and r.jobsSyncedAt is null
+            order by r.createdAt desc, r.id desc
+            """)
+    List<WorkflowRunRecord> findCompletedWithoutJobs(String owner, String repo, Pageable pageable);
+
+    /**
+     * 기간 내 생성된 완료 실행 중 Job 목록을 아직 받지 않은 실행 수를 센다.
+     */
+    @Query("""
+            select count(r) from WorkflowRunRecord r
+            where r.owner = :owner and r.repo = :repo and r.status = 'completed' and r.jobsSyncedAt is null
+              and r.createdAt >= :from and r.createdAt < :to
+            """)
+    long countCompletedWithoutJobs(String owner, String repo, Instant from, Instant to);
+
+    /**
+     * 실행의 Job 목록을 받아 저장했다고 표시한다. (그 사이 재실행되어 완료 상태가 아니면 표시하지 않는다)
+     */
+    @Modifying
+    @Query("update WorkflowRunRecord r set r.jobsSyncedAt = :syncedAt where r.id = :runId and r.status = 'completed'")
+    int markJobsSynced(Long runId, Instant syncedAt);
+}
@@ -0,0 +1,14 @@
+package com.example.pipemate.workflow.history.repository;
+
+import com.example.pipemate.workflow.history.entity.WorkflowRunRecord;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Map;
+
+public interface WorkflowRunRecordRepositoryCustom {
+
+    /**
+     * 조건에 맞는 실행 수를 컬럼(status 또는 conclusion) 값별로 센다. (값이 null인 항목은 "none")
+     */
+    Map<String, Long> countGroupedBy(Specification<WorkflowRunRecord> specification, String column);
+}
@@ -0,0 +1,44 @@
+package com.example.pipemate.workflow.history.repository;
+
+import com.example.pipemate.workflow.history.entity.WorkflowRunRecord;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+class WorkflowRunRecordRepositoryImpl implements WorkflowRunRecordRepositoryCustom {
+
+    private static final Set<String> GROUPABLE_COLUMNS = Set.of("status", "conclusion");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Map<String, Long> countGroupedBy(Specification<WorkflowRunRecord> specification, String column) {
+        if (!GROUPABLE_COLUMNS.contains(column)) {
+            throw new IllegalArgumentException("집계할 수 없는 컬럼입니다: " + column);
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<WorkflowRunRecord> root = query.from(WorkflowRunRecord.class);
+        Path<String> group = root.get(column);
+        query.multiselect(group, cb.count(root))
+                .where(specification.toPredicate(root, query, cb))
+                .groupBy(group);
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            String value = tuple.get(0, String.class);
+            counts.put(value == null ? "none" : value, tuple.get(1, Long.class));
+        }
+        return counts;
+    }
+}
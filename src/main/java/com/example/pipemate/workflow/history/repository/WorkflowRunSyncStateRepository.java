@@ -0,0 +1,9 @@
+package com.example.pipemate.workflow.history.repository;
+
+import com.example.pipemate.workflow.history.entity.WorkflowRunSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WorkflowRunSyncStateRepository extends JpaRepository<WorkflowRunSyncState, String> {
+}
@@ -0,0 +1,367 @@
+package com.example.pipemate.workflow.live;
+
+import com.example.pipemate.util.GithubApiClient;
+import com.example.pipemate.util.GithubRateLimitException;
+import com.example.pipemate.util.GithubRequestPriority;
+import com.example.pipemate.util.RepoNames;
+import com.example.pipemate.workflow.res.GithubJobDetailResponse;
+import com.example.pipemate.workflow.res.WorkflowRunResponse;
+import com.example.pipemate.workflow.res.WorkflowRunSnapshotResponse;
+import com.example.pipemate.workflow.res.WorkflowRunStatusEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 워크플로우 실행(run)의 상태 변화를 SSE로 전달한다.
+ * <p>
+ * - 같은 실행을 구독하는 모든 클라이언트는 서버 쪽 poller 하나를 공유한다. (탭 수와 무관하게 실행당 1회 조회)
+ * - poller는 실행이 오래될수록 조회 간격을 늘리고, 실행이 완료(completed)되면 마지막 변경을 보낸 뒤 종료한다.
+ * - 구독 직후에는 전체 상태(snapshot)를, 이후에는 바뀐 run / job / step 상태(diff)만 보낸다.
+ * - 구독자가 모두 떠나면 poller도 멈춘다.
+ * - 전송은 watcher 잠금 밖에서 하므로, 느린 구독자가 다른 구독자의 추가나 poller의 상태 갱신을 막지 않는다.
+ *   (구독자별 잠금으로 한 구독자에게 가는 이벤트의 순서는 유지한다)
+ */
+@Component
+@Slf4j
+public class RunStatusBroadcaster {
+
+    private static final int MAX_CONSECUTIVE_FAILURES = 5;
+
+    private final GithubApiClient githubApiClient;
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final Duration subscriptionTimeout;
+
+    private final Map<String, RunWatcher> watchers = new ConcurrentHashMap<>();
+    private final ExecutorService pollers = Executors.newVirtualThreadPerTaskExecutor();
+
+    public RunStatusBroadcaster(
+            GithubApiClient githubApiClient,
+            @Value("${pipemate.github.live.min-interval:3s}") Duration minInterval,
+            @Value("${pipemate.github.live.max-interval:30s}") Duration maxInterval,
+            @Value("${pipemate.github.live.subscription-timeout:30m}") Duration subscriptionTimeout
+    ) {
+        this.githubApiClient = githubApiClient;
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.subscriptionTimeout = subscriptionTimeout;
+    }
+
+    /**
+     * 실행 상태 스트림을 구독한다.
+     * 공유 poller가 다른 구독자의 토큰으로 조회하더라도, 구독자 본인의 토큰으로 실행을 조회할 수 있는지 먼저 확인한다.
+     */
+    public SseEmitter subscribe(String owner, String repo, Long runId, String token) {
+        githubApiClient.fetchWorkflowRun(owner, repo, runId, token);
+
+        SseEmitter emitter = new SseEmitter(subscriptionTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, token, new ReentrantLock());
+        String key = RepoNames.normalize(owner) + "/" + RepoNames.normalize(repo) + "/" + runId;
+
+        RunWatcher watcher;
+        do {
+            watcher = watchers.computeIfAbsent(key, k -> new RunWatcher(k, owner, repo, runId));
+        } while (!watcher.add(subscriber));
+
+        RunWatcher subscribed = watcher;
+        emitter.onCompletion(() -> subscribed.remove(subscriber));
+        emitter.onTimeout(() -> subscribed.remove(subscriber));
+        emitter.onError(e -> subscribed.remove(subscriber));
+        return emitter;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pollers.shutdownNow();
+    }
+
+    /**
+     * 실행이 오래될수록 조회 간격을 늘린다. (경과 시간의 1/20, min~max 사이)
+     */
+    private Duration pollInterval(WorkflowRunResponse run) {
+        Duration age = Duration.ZERO;
+        if (run.getCreated_at() != null) {
+            try {
+                age = Duration.between(Instant.parse(run.getCreated_at()), Instant.now());
+            } catch (DateTimeParseException ignored) {
+                // 형식이 다르면 가장 짧은 간격을 사용한다.
+            }
+        }
+        Duration interval = age.dividedBy(20);
+        if (interval.compareTo(minInterval) < 0) {
+            return minInterval;
+        }
+        return interval.compareTo(maxInterval) > 0 ? maxInterval : interval;
+    }
+
+    /**
+     * @param sendLock 이 구독자에게 보내는 이벤트의 순서를 지키기 위한 잠금 (구독 직후 snapshot이 이후 diff보다 먼저 가도록)
+     */
+    private record Subscriber(SseEmitter emitter, String token, ReentrantLock sendLock) {
+    }
+
+    /**
+     * 실행 하나의 공유 poller와 구독자 목록
+     */
+    private final class RunWatcher {
+
+        private final String key;
+        private final String owner;
+        private final String repo;
+        private final Long runId;
+
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private WorkflowRunSnapshotResponse last;
+        private boolean started;
+        private boolean closed;
+
+        RunWatcher(String key, String owner, String repo, Long runId) {
+            this.key = key;
+            this.owner = owner;
+            this.repo = repo;
+            this.runId = runId;
+        }
+
+        /**
+         * 구독자를 추가한다. 이미 종료된 watcher면 false.
+         * 마지막 상태(snapshot)는 잠금 밖에서 보내되, 그동안 구독자 잠금을 잡아 이후 diff가 snapshot보다 먼저 가지 않게 한다.
+         */
+        boolean add(Subscriber subscriber) {
+            WorkflowRunSnapshotResponse snapshot;
+            subscriber.sendLock().lock();
+            try {
+                lock.lock();
+                try {
+                    if (closed) {
+                        return false;
+                    }
+                    subscribers.add(subscriber);
+                    snapshot = last;
+                    if (!started) {
+                        started = true;
+                        pollers.submit(() -> GithubRequestPriority.background(this::pollLoop));
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (snapshot != null && !send(subscriber, "snapshot", snapshot)) {
+                    subscribers.remove(subscriber);
+                }
+                return true;
+            } finally {
+                subscriber.sendLock().unlock();
+            }
+        }
+
+        void remove(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+        }
+
+        private void pollLoop() {
+            int failures = 0;
+            try {
+                while (true) {
+                    String token = currentToken();
+                    if (token == null) {
+                        return;
+                    }
+
+                    Duration sleep;
+                    try {
+                        WorkflowRunResponse run = githubApiClient.fetchWorkflowRun(owner, repo, runId, token);
+                        List<GithubJobDetailResponse> jobs = githubApiClient.fetchWorkflowJobs(owner, repo, runId, token);
+                        failures = 0;
+                        if (publish(new WorkflowRunSnapshotResponse(run, jobs))) {
+                            return;
+                        }
+                        sleep = pollInterval(run);
+                    } catch (GithubRateLimitException e) {
+                        sleep = Duration.ofSeconds(Math.max(e.getRetryAfterSeconds(), maxInterval.toSeconds()));
+                    } catch (RuntimeException e) {
+                        if (++failures >= MAX_CONSECUTIVE_FAILURES) {
+                            log.warn("[RunStatusBroadcaster] {} 상태 조회 연속 실패로 스트림 종료: {}", key, e.toString());
+                            close("error", Map.of("message", "실행 상태를 조회할 수 없습니다."));
+                            return;
+                        }
+                        sleep = maxInterval;
+                    }
+                    TimeUnit.MILLISECONDS.sleep(sleep.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close("error", Map.of("message", "서버가 종료되었습니다."));
+            }
+        }
+
+        /**
+         * 구독자가 남아 있으면 poller가 사용할 토큰을, 없으면 watcher를 닫고 null을 반환한다.
+         */
+        private String currentToken() {
+            lock.lock();
+            try {
+                if (subscribers.isEmpty()) {
+                    closed = true;
+                    watchers.remove(key, this);
+                    return null;
+                }
+                return subscribers.get(0).token();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 새 상태를 구독자에게 보낸다. 실행이 완료되었으면 스트림을 닫고 true를 반환한다.
+         */
+        private boolean publish(WorkflowRunSnapshotResponse next) {
+            List<Subscriber> targets;
+            List<WorkflowRunStatusEvent> events;
+            boolean first;
+            lock.lock();
+            try {
+                targets = List.copyOf(subscribers);
+                first = last == null;
+                events = first ? List.of() : diff(last, next);
+                last = next;
+            } finally {
+                lock.unlock();
+            }
+
+            List<Subscriber> failed = new ArrayList<>();
+            for (Subscriber subscriber : targets) {
+                subscriber.sendLock().lock();
+                try {
+                    boolean sent = first ? send(subscriber, "snapshot", next) : sendAll(subscriber, events);
+                    if (!sent) {
+                        failed.add(subscriber);
+                    }
+                } finally {
+                    subscriber.sendLock().unlock();
+                }
+            }
+            // 연결이 끊긴 구독자는 목록에서 제거한다.
+            subscribers.removeAll(failed);
+
+            if ("completed".equals(next.getRun().getStatus())) {
+                close("complete", Map.of("runId", runId, "conclusion", String.valueOf(next.getRun().getConclusion())));
+                return true;
+            }
+            return false;
+        }
+
+        private void close(String eventName, Object data) {
+            List<Subscriber> targets;
+            lock.lock();
+            try {
+                closed = true;
+                watchers.remove(key, this);
+                targets = List.copyOf(subscribers);
+                subscribers.clear();
+            } finally {
+                lock.unlock();
+            }
+
+            for (Subscriber subscriber : targets) {
+                subscriber.sendLock().lock();
+                try {
+                    send(subscriber, eventName, data);
+                    subscriber.emitter().complete();
+                } finally {
+                    subscriber.sendLock().unlock();
+                }
+            }
+        }
+
+        private boolean sendAll(Subscriber subscriber, List<WorkflowRunStatusEvent> events) {
+            for (WorkflowRunStatusEvent event : events) {
+                if (!send(subscriber, event.getType(), event)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 이벤트 하나를 보낸다. 연결이 끊겨 보내지 못했으면 false.
+         */
+        private boolean send(Subscriber subscriber, String eventName, Object data) {
+            try {
+                subscriber.emitter().send(SseEmitter.event().name(eventName).data(data));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                return false;
+            }
+        }
+
+        private List<WorkflowRunStatusEvent> diff(WorkflowRunSnapshotResponse before, WorkflowRunSnapshotResponse after) {
+            List<WorkflowRunStatusEvent> events = new ArrayList<>();
+            WorkflowRunResponse run = after.getRun();
+            if (changed(before.getRun().getStatus(), before.getRun().getConclusion(), run.getStatus(), run.getConclusion())) {
+                events.add(WorkflowRunStatusEvent.builder()
+                        .type("run")
+                        .runId(runId)
+                        .status(run.getStatus())
+                        .conclusion(run.getConclusion())
+                        .build());
+            }
+
+            Map<Long, GithubJobDetailResponse> previousJobs = new HashMap<>();
+            before.getJobs().forEach(job -> previousJobs.put(job.getId(), job));
+
+            for (GithubJobDetailResponse job : after.getJobs()) {
+                GithubJobDetailResponse previousJob = previousJobs.get(job.getId());
+                if (previousJob == null || changed(previousJob.getStatus(), previousJob.getConclusion(), job.getStatus(), job.getConclusion())) {
+                    events.add(WorkflowRunStatusEvent.builder()
+                            .type("job")
+                            .runId(runId)
+                            .jobId(job.getId())
+                            .jobName(job.getName())
+                            .status(job.getStatus())
+                            .conclusion(job.getConclusion())
+                            .build());
+                }
+
+                Map<Integer, GithubJobDetailResponse.Step> previousSteps = new HashMap<>();
+                if (previousJob != null) {
+                    previousJob.getSteps().forEach(step -> previousSteps.put(step.getNumber(), step));
+                }
+                for (GithubJobDetailResponse.Step step : job.getSteps()) {
+                    GithubJobDetailResponse.Step previousStep = previousSteps.get(step.getNumber());
+                    if (previousStep == null || changed(previousStep.getStatus(), previousStep.getConclusion(), step.getStatus(), step.getConclusion())) {
+                        events.add(WorkflowRunStatusEvent.builder()
+                                .type("step")
+                                .runId(runId)
+                                .jobId(job.getId())
+                                .jobName(job.getName())
+                                .stepNumber(step.getNumber())
+                                .stepName(step.getName())
+                                .status(step.getStatus())
+                                .conclusion(step.getConclusion())
+                                .build());
+                    }
+                }
+            }
+            return events;
+        }
+
+        private boolean changed(String beforeStatus, String beforeConclusion, String afterStatus, String afterConclusion) {
+            return !Objects.equals(beforeStatus, afterStatus) || !Objects.equals(beforeConclusion, afterConclusion);
+        }
+    }
+}
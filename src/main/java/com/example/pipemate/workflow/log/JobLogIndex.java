@@ -0,0 +1,25 @@
+package com.example.pipemate.workflow.log;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 압축 해제된 Job 로그 파일 하나의 인덱스.
+ *
+ * @param name        Job 이름 (ZIP 내 파일명에서 순번 접두어를 제거한 값)
+ * @param file        압축 해제된 로그 파일 경로
+ * @param lineOffsets 각 라인의 시작 바이트 오프셋 (마지막 원소는 파일 끝 오프셋)
+ * @param steps       step 구간 목록 (step 번호 오름차순)
+ */
+public record JobLogIndex(String name, Path file, long[] lineOffsets, List<StepRange> steps) {
+
+    public int lineCount() {
+        return lineOffsets.length - 1;
+    }
+
+    /**
+     * 로그 안에서 step 하나가 차지하는 라인 구간 (1부터 시작, 양 끝 포함)
+     */
+    public record StepRange(int number, String name, int fromLine, int toLine) {
+    }
+}
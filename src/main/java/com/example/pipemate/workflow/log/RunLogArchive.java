@@ -0,0 +1,290 @@
+package com.example.pipemate.workflow.log;
+
+import com.example.pipemate.util.GithubApiClient;
+import com.example.pipemate.util.RepoNames;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 완료된 워크플로우 실행(run)의 로그 ZIP을 로컬 디스크에 보관하는 저장소.
+ * <p>
+ * - 완료된 실행의 로그는 바뀌지 않으므로, GitHub에서 한 번 받은 ZIP 원본(압축된 상태)을 그대로 보관한다.
+ * - 디스크 경로: {archive-dir}/{owner}/{repo}/{runId}.zip (owner/repo는 소문자) → 재시작 후에도, GitHub 로그 보관 기간이 지난 뒤에도 조회할 수 있다.
+ * - 메모리에는 (실행 → 파일 경로, 크기, 마지막 접근 시각) 인덱스만 둔다.
+ * - 전체 용량이 max-size를 넘으면 가장 오래 접근하지 않은 실행부터 삭제하고, retention이 지난 실행도 삭제한다.
+ */
+@Component
+@Slf4j
+public class RunLogArchive {
+
+    private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final String ARCHIVE_SUFFIX = ".zip";
+    private static final String PART_SUFFIX = ".part";
+
+    private final GithubApiClient githubApiClient;
+    private final Path root;
+    private final long maxBytes;
+    private final Duration retention;
+
+    private final Map<String, ArchivedRun> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<ArchivedRun>> downloads = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    public RunLogArchive(
+            GithubApiClient githubApiClient,
+            @Value("${pipemate.logs.archive.dir:${user.home}/.pipemate/run-logs}") String archiveDir,
+            @Value("${pipemate.logs.archive.max-size:2GB}") DataSize maxSize,
+            @Value("${pipemate.logs.archive.retention:180d}") Duration retention
+    ) {
+        this.githubApiClient = githubApiClient;
+        this.root = Paths.get(archiveDir);
+        this.maxBytes = maxSize.toBytes();
+        this.retention = retention;
+    }
+
+    /**
+     * 디스크에 남아 있는 보관 로그로 인덱스를 다시 만들고, 중단된 다운로드 파일을 정리한다.
+     */
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(root);
+        try (Stream<Path> walk = Files.walk(root, 3)) {
+            walk.filter(Files::isRegularFile).forEach(file -> {
+                String fileName = file.getFileName().toString();
+                try {
+                    if (fileName.endsWith(PART_SUFFIX)) {
+                        Files.deleteIfExists(file);
+                    } else if (fileName.endsWith(ARCHIVE_SUFFIX) && root.relativize(file).getNameCount() == 3) {
+                        register(root.relativize(file).toString().replace('\\', '/'), file,
+                                Files.size(file), Files.getLastModifiedTime(file).toMillis());
+                    }
+                } catch (IOException e) {
+                    log.warn("보관 로그 파일 확인 실패: {}", file);
+                }
+            });
+        }
+        evict();
+        log.info("[RunLogArchive] 보관 로그 {}개 ({} bytes) 로드", entries.size(), totalBytes.get());
+    }
+
+    /**
+     * 완료된 실행의 로그 ZIP을 reader에 넘긴다. 보관소에 없으면 GitHub에서 받아 저장한 뒤 읽는다.
+     * (같은 실행에 대한 동시 호출은 하나의 다운로드를 공유)
+     * 인덱스에서 찾은 뒤 파일을 열기 전에 정리(evict)로 삭제되었으면, 항목을 빼고 한 번 다시 받는다.
+     */
+    public <T> T read(String owner, String repo, Long runId, String token, GithubApiClient.LogArchiveReader<T> reader) {
+        String key = key(owner, repo, runId);
+        ArchivedRun run = archive(key, owner, repo, runId, token);
+        try {
+            InputStream in;
+            try {
+                in = Files.newInputStream(run.file());
+            } catch (NoSuchFileException e) {
+                log.debug("[RunLogArchive] {} 보관 로그가 읽기 전에 삭제되어 다시 받음", key);
+                forget(key, run);
+                run = archive(key, owner, repo, runId, token);
+                in = Files.newInputStream(run.file());
+            }
+            // 파일을 연 뒤에는 정리로 삭제되어도 열린 핸들로 끝까지 읽을 수 있다.
+            run.touch();
+            try (ZipInputStream zip = new ZipInputStream(in, StandardCharsets.UTF_8)) {
+                return reader.read(zip);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("보관 로그 읽기 실패: " + run.file(), e);
+        }
+    }
+
+    private ArchivedRun archive(String key, String owner, String repo, Long runId, String token) {
+        ArchivedRun existing = entries.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<ArchivedRun> download = new CompletableFuture<>();
+        CompletableFuture<ArchivedRun> inFlight = downloads.putIfAbsent(key, download);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            ArchivedRun run = download(key, owner, repo, runId, token);
+            download.complete(run);
+            return run;
+        } catch (RuntimeException e) {
+            download.completeExceptionally(e);
+            throw e;
+        } finally {
+            downloads.remove(key, download);
+        }
+    }
+
+    private ArchivedRun download(String key, String owner, String repo, Long runId, String token) {
+        ArchivedRun existing = entries.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        Path file = root.resolve(key);
+        Path part = null;
+        try {
+            Files.createDirectories(file.getParent());
+            part = Files.createTempFile(file.getParent(), runId + "-", PART_SUFFIX);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part))) {
+                githubApiClient.downloadLogArchive(owner, repo, runId, token, out);
+            }
+            Files.move(part, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            ArchivedRun run = register(key, file, Files.size(file), System.currentTimeMillis());
+            log.info("[RunLogArchive] {} 로그 보관 ({} bytes)", key, run.size());
+            evict();
+            return run;
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 보관 실패: " + key, e);
+        } finally {
+            if (part != null) {
+                try {
+                    Files.deleteIfExists(part);
+                } catch (IOException e) {
+                    log.warn("임시 로그 파일 삭제 실패: {}", part);
+                }
+            }
+        }
+    }
+
+    private ArchivedRun register(String key, Path file, long size, long lastAccessMillis) {
+        ArchivedRun run = new ArchivedRun(file, size, lastAccessMillis);
+        ArchivedRun previous = entries.put(key, run);
+        totalBytes.addAndGet(size - (previous == null ? 0 : previous.size()));
+        return run;
+    }
+
+    /**
+     * 보관 기간이 지난 실행을 지우고, 전체 용량이 예산을 넘으면 가장 오래 접근하지 않은 실행부터 지운다.
+     */
+    private synchronized void evict() {
+        long expiredBefore = System.currentTimeMillis() - retention.toMillis();
+        // 정렬 중 접근 시각이 바뀌지 않도록 시각을 먼저 복사해 둔다.
+        List<EvictionCandidate> candidates = new ArrayList<>(entries.size());
+        entries.forEach((key, run) -> candidates.add(new EvictionCandidate(key, run, run.lastAccessMillis())));
+        candidates.sort(Comparator.comparingLong(EvictionCandidate::lastAccessMillis));
+
+        for (EvictionCandidate candidate : candidates) {
+            if (candidate.lastAccessMillis() >= expiredBefore && totalBytes.get() <= maxBytes) {
+                break;
+            }
+            if (entries.remove(candidate.key(), candidate.run())) {
+                delete(candidate.run());
+                log.info("[RunLogArchive] {} 보관 로그 삭제", candidate.key());
+            }
+        }
+    }
+
+    /**
+     * 파일이 이미 없어진 항목을 인덱스에서 뺀다. (정리와 겹쳐 이미 빠졌으면 아무것도 하지 않는다)
+     */
+    private void forget(String key, ArchivedRun run) {
+        if (entries.remove(key, run)) {
+            totalBytes.addAndGet(-run.size());
+        }
+    }
+
+    private void delete(ArchivedRun run) {
+        totalBytes.addAndGet(-run.size());
+        try {
+            // 읽는 중인 파일은 열린 핸들이 닫힐 때까지 내용이 유지된다.
+            Files.deleteIfExists(run.file());
+        } catch (IOException e) {
+            log.warn("보관 로그 삭제 실패: {}", run.file());
+        }
+    }
+
+    private String key(String owner, String repo, Long runId) {
+        return safeName(RepoNames.normalize(owner)) + "/" + safeName(RepoNames.normalize(repo)) + "/" + runId + ARCHIVE_SUFFIX;
+    }
+
+    private String safeName(String name) {
+        if (name == null || !SAFE_NAME.matcher(name).matches() || name.equals(".") || name.equals("..")) {
+            throw new IllegalArgumentException("잘못된 저장소 이름입니다: " + name);
+        }
+        return name;
+    }
+
+    private record EvictionCandidate(String key, ArchivedRun run, long lastAccessMillis) {
+    }
+
+    /**
+     * 보관된 실행 로그 하나의 인덱스 항목
+     */
+    private static final class ArchivedRun {
+
+        private final Path file;
+        private final long size;
+        private volatile long lastAccessMillis;
+
+        ArchivedRun(Path file, long size, long lastAccessMillis) {
+            this.file = file;
+            this.size = size;
+            this.lastAccessMillis = lastAccessMillis;
+        }
+
+        Path file() {
+            return file;
+        }
+
+        long size() {
+            return size;
+        }
+
+        long lastAccessMillis() {
+            return lastAccessMillis;
+        }
+
+        /**
+         * 마지막 접근 시각을 갱신한다. 재시작 후에도 LRU 순서가 유지되도록 파일 수정 시각에도 기록한다.
+         */
+        void touch() {
+            long now = System.currentTimeMillis();
+            lastAccessMillis = now;
+            try {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(now));
+            } catch (IOException ignored) {
+                // 접근 시각 기록 실패는 정리 순서에만 영향을 준다.
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.pipemate.workflow.log;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 워크플로우 실행(run) 하나의 로그 인덱스. (Job별 로그 파일 인덱스 목록)
+ *
+ * @param runId     실행 ID
+ * @param directory Job 로그 파일들이 압축 해제된 디렉터리
+ * @param jobs      Job별 로그 인덱스 (ZIP 내 순서)
+ */
+public record RunLogIndex(Long runId, Path directory, List<JobLogIndex> jobs) {
+
+    /**
+     * Job 이름으로 로그 인덱스를 찾는다.
+     * ZIP 파일명에는 파일 시스템에서 쓸 수 없는 문자가 빠져 있을 수 있으므로, 정확히 일치하지 않으면 문자/숫자만 비교한다.
+     */
+    public Optional<JobLogIndex> findJob(String jobName) {
+        for (JobLogIndex job : jobs) {
+            if (job.name().equals(jobName)) {
+                return Optional.of(job);
+            }
+        }
+        String normalized = normalize(jobName);
+        for (JobLogIndex job : jobs) {
+            if (normalize(job.name()).equals(normalized)) {
+                return Optional.of(job);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String normalize(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+}
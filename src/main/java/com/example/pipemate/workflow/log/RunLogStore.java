@@ -0,0 +1,383 @@
+package com.example.pipemate.workflow.log;
+
+import com.example.pipemate.util.RepoNames;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 워크플로우 실행 로그를 Job 단위 파일로 풀어 두고, 라인/step 구간 단위로 읽을 수 있게 하는 로컬 로그 저장소.
+ * <p>
+ * - 로컬 로그 보관소(RunLogArchive)의 실행 로그 ZIP을 Job별 로그 파일로 압축 해제한다.
+ * - 압축 해제와 동시에 라인 시작 오프셋과 step 경계(step별 로그 파일 또는 ##[group] 표시) 인덱스를 만든다.
+ * - 라인 구간 조회는 메모리 맵(mmap)으로 필요한 부분만 읽는다.
+ * - 같은 실행에 대한 동시 요청은 하나의 다운로드를 공유하며, 실행마다 별도 디렉터리를 사용한다.
+ * - 캐시에서 빠진 실행의 디렉터리는 open()으로 받은 인덱스를 아직 읽는 중일 수 있으므로 delete-delay가 지난 뒤 지운다.
+ *   (다음 open() 또는 다른 실행이 빠질 때 정리, 재시작 시에는 init에서 모두 정리)
+ */
+@Component
+@Slf4j
+public class RunLogStore {
+
+    private static final byte[] GROUP_MARKER = "##[group]".getBytes(StandardCharsets.US_ASCII);
+    private static final int LINE_HEAD_BYTES = 256;
+
+    private final RunLogArchive runLogArchive;
+    private final Path root;
+    private final ExecutorService buildExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AsyncCache<String, RunLogIndex> indexes;
+    private final Duration deleteDelay;
+    // 캐시에서 빠진 실행의 디렉터리 → 삭제할 시각
+    private final Map<Path, Instant> retired = new ConcurrentHashMap<>();
+
+    public RunLogStore(
+            RunLogArchive runLogArchive,
+            @Value("${pipemate.logs.store-dir:${java.io.tmpdir}/pipemate-logs}") String storeDir,
+            @Value("${pipemate.logs.max-open-runs:50}") long maxOpenRuns,
+            @Value("${pipemate.logs.expire-after-access:1h}") Duration expireAfterAccess,
+            @Value("${pipemate.logs.delete-delay:1m}") Duration deleteDelay
+    ) {
+        this.runLogArchive = runLogArchive;
+        this.root = Paths.get(storeDir);
+        this.deleteDelay = deleteDelay;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxOpenRuns)
+                .expireAfterAccess(expireAfterAccess)
+                .executor(buildExecutor)
+                .removalListener((String key, RunLogIndex index, RemovalCause cause) -> {
+                    if (index != null) {
+                        retired.put(index.directory(), Instant.now().plus(deleteDelay));
+                    }
+                    deleteRetired();
+                })
+                .buildAsync();
+    }
+
+    /**
+     * 이전 프로세스가 남긴 압축 해제 디렉터리를 정리한다.
+     */
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(root);
+        try (Stream<Path> children = Files.list(root)) {
+            children.filter(path -> path.getFileName().toString().matches("\\d+-.+"))
+                    .forEach(this::deleteRecursively);
+        }
+    }
+
+    /**
+     * 실행 로그 인덱스를 반환한다. 없으면 보관된 로그 ZIP으로 만든다.
+     * (같은 실행에 대한 동시 호출은 하나의 다운로드를 공유)
+     */
+    public RunLogIndex open(String owner, String repo, Long runId, String token) {
+        deleteRetired();
+        String key = RepoNames.normalize(owner) + "/" + RepoNames.normalize(repo) + "/" + runId;
+        try {
+            return indexes.get(key, (k, executor) ->
+                    CompletableFuture.supplyAsync(() -> build(owner, repo, runId, token), executor)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Job 로그의 [fromLine, toLine] 구간(1부터 시작, 양 끝 포함)을 메모리 맵으로 읽어 라인 목록으로 반환한다.
+     */
+    public List<String> readLines(JobLogIndex job, int fromLine, int toLine) {
+        if (fromLine > toLine) {
+            return List.of();
+        }
+        long[] offsets = job.lineOffsets();
+        long start = offsets[fromLine - 1];
+        long end = offsets[toLine];
+
+        try (FileChannel channel = FileChannel.open(job.file(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            CharBuffer chars = StandardCharsets.UTF_8.decode(buffer);
+
+            List<String> lines = new ArrayList<>(toLine - fromLine + 1);
+            int lineStart = 0;
+            for (int i = 0; i < chars.length(); i++) {
+                if (chars.charAt(i) == '\n') {
+                    lines.add(stripCarriageReturn(chars, lineStart, i));
+                    lineStart = i + 1;
+                }
+            }
+            if (lineStart < chars.length()) {
+                lines.add(stripCarriageReturn(chars, lineStart, chars.length()));
+            }
+            return lines;
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 파일 읽기 실패: " + job.file(), e);
+        }
+    }
+
+    private RunLogIndex build(String owner, String repo, Long runId, String token) {
+        Path directory;
+        try {
+            directory = Files.createTempDirectory(root, runId + "-");
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 저장 디렉터리 생성 실패", e);
+        }
+
+        try {
+            RunLogIndex index = runLogArchive.read(owner, repo, runId, token, zip -> extract(runId, directory, zip));
+            log.info("[RunLogStore] {}/{} run {} 로그 인덱스 생성 (job {}개)", owner, repo, runId, index.jobs().size());
+            return index;
+        } catch (RuntimeException e) {
+            deleteRecursively(directory);
+            throw e;
+        }
+    }
+
+    private RunLogIndex extract(Long runId, Path directory, ZipInputStream zip) throws IOException {
+        Map<String, IndexedFile> jobFiles = new LinkedHashMap<>();
+        Map<String, List<StepFile>> stepFilesByJob = new HashMap<>();
+
+        ZipEntry entry;
+        int fileNo = 0;
+        while ((entry = zip.getNextEntry()) != null) {
+            String entryName = entry.getName();
+            if (entry.isDirectory() || !entryName.endsWith(".txt")) {
+                continue;
+            }
+            String baseName = entryName.substring(0, entryName.length() - ".txt".length());
+            int slash = baseName.indexOf('/');
+            if (slash < 0) {
+                // 최상위 "{순번}_{job 이름}.txt" : Job 전체 로그
+                Path file = directory.resolve((fileNo++) + ".log");
+                jobFiles.put(stripOrderPrefix(baseName), writeIndexed(zip, file));
+            } else {
+                // "{job 이름}/{step 번호}_{step 이름}.txt" : step별 로그 (라인 수만 센다)
+                String jobDir = baseName.substring(0, slash);
+                String stepFile = baseName.substring(slash + 1);
+                int underscore = stepFile.indexOf('_');
+                if (underscore > 0 && stepFile.substring(0, underscore).chars().allMatch(Character::isDigit)) {
+                    stepFilesByJob.computeIfAbsent(jobDir, k -> new ArrayList<>()).add(new StepFile(
+                            Integer.parseInt(stepFile.substring(0, underscore)),
+                            stepFile.substring(underscore + 1),
+                            countLines(zip)));
+                }
+            }
+        }
+
+        List<JobLogIndex> jobs = new ArrayList<>();
+        jobFiles.forEach((name, indexed) -> {
+            int lineCount = indexed.lineOffsets().length - 1;
+            List<StepFile> stepFiles = stepFilesByJob.get(name);
+            List<JobLogIndex.StepRange> steps = stepFiles != null
+                    ? stepsFromFiles(stepFiles, lineCount)
+                    : stepsFromGroups(indexed.groups(), lineCount);
+            jobs.add(new JobLogIndex(name, indexed.file(), indexed.lineOffsets(), steps));
+        });
+        return new RunLogIndex(runId, directory, List.copyOf(jobs));
+    }
+
+    /**
+     * 로그를 파일로 쓰면서 라인 시작 오프셋과 ##[group] 라인을 기록한다.
+     */
+    private IndexedFile writeIndexed(InputStream in, Path file) throws IOException {
+        LongArray starts = new LongArray();
+        starts.add(0);
+        List<Group> groups = new ArrayList<>();
+
+        byte[] buffer = new byte[64 * 1024];
+        byte[] head = new byte[LINE_HEAD_BYTES];
+        int headLength = 0;
+        long offset = 0;
+        int line = 1;
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                for (int i = 0; i < read; i++) {
+                    byte b = buffer[i];
+                    if (b == '\n') {
+                        addGroupIfMarked(groups, head, headLength, line);
+                        starts.add(offset + i + 1);
+                        headLength = 0;
+                        line++;
+                    } else if (headLength < LINE_HEAD_BYTES) {
+                        head[headLength++] = b;
+                    }
+                }
+                offset += read;
+            }
+        }
+        if (starts.last() < offset) {
+            addGroupIfMarked(groups, head, headLength, line);
+            starts.add(offset);
+        }
+        return new IndexedFile(file, starts.toArray(), groups);
+    }
+
+    private void addGroupIfMarked(List<Group> groups, byte[] head, int length, int line) {
+        int marker = indexOf(head, length, GROUP_MARKER);
+        if (marker >= 0) {
+            int start = marker + GROUP_MARKER.length;
+            String title = new String(head, start, length - start, StandardCharsets.UTF_8).strip();
+            groups.add(new Group(line, title));
+        }
+    }
+
+    private List<JobLogIndex.StepRange> stepsFromFiles(List<StepFile> stepFiles, int lineCount) {
+        List<StepFile> sorted = new ArrayList<>(stepFiles);
+        sorted.sort(Comparator.comparingInt(StepFile::number));
+
+        List<JobLogIndex.StepRange> steps = new ArrayList<>();
+        int cursor = 0;
+        for (StepFile stepFile : sorted) {
+            int from = Math.min(cursor + 1, lineCount + 1);
+            int to = Math.min(cursor + stepFile.lineCount(), lineCount);
+            steps.add(new JobLogIndex.StepRange(stepFile.number(), stepFile.name(), from, to));
+            cursor += stepFile.lineCount();
+        }
+        return steps;
+    }
+
+    private List<JobLogIndex.StepRange> stepsFromGroups(List<Group> groups, int lineCount) {
+        List<JobLogIndex.StepRange> steps = new ArrayList<>();
+        for (int i = 0; i < groups.size(); i++) {
+            int to = i + 1 < groups.size() ? groups.get(i + 1).line() - 1 : lineCount;
+            steps.add(new JobLogIndex.StepRange(i + 1, groups.get(i).title(), groups.get(i).line(), to));
+        }
+        return steps;
+    }
+
+    private int countLines(InputStream in) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        int lines = 0;
+        byte last = '\n';
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+            if (read > 0) {
+                last = buffer[read - 1];
+            }
+        }
+        return last == '\n' ? lines : lines + 1;
+    }
+
+    private static String stripOrderPrefix(String name) {
+        int underscore = name.indexOf('_');
+        if (underscore > 0 && name.substring(0, underscore).chars().allMatch(Character::isDigit)) {
+            return name.substring(underscore + 1);
+        }
+        return name;
+    }
+
+    private static String stripCarriageReturn(CharSequence chars, int start, int end) {
+        if (end > start && chars.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return chars.subSequence(start, end).toString();
+    }
+
+    private static int indexOf(byte[] bytes, int length, byte[] pattern) {
+        outer:
+        for (int i = 0; i + pattern.length <= length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (bytes[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 캐시에서 빠진 뒤 delete-delay가 지난 실행 디렉터리를 지운다.
+     */
+    private void deleteRetired() {
+        Instant now = Instant.now();
+        retired.forEach((directory, deleteAt) -> {
+            if (deleteAt.isBefore(now) && retired.remove(directory, deleteAt)) {
+                deleteRecursively(directory);
+            }
+        });
+    }
+
+    private void deleteRecursively(Path path) {
+        try (Stream<Path> walk = Files.walk(path)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException e) {
+                    log.warn("로그 파일 삭제 실패: {}", p);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("로그 디렉터리 삭제 실패: {}", path);
+        }
+    }
+
+    private record IndexedFile(Path file, long[] lineOffsets, List<Group> groups) {
+    }
+
+    private record Group(int line, String title) {
+    }
+
+    private record StepFile(int number, String name, int lineCount) {
+    }
+
+    /**
+     * 박싱 없이 long 값을 모으는 가변 배열
+     */
+    private static final class LongArray {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long last() {
+            return values[size - 1];
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.pipemate.workflow.overview;
+
+import com.example.pipemate.workflow.WorkflowRunCache;
+import com.example.pipemate.workflow.log.JobLogIndex;
+import com.example.pipemate.workflow.log.RunLogIndex;
+import com.example.pipemate.workflow.log.RunLogStore;
+import com.example.pipemate.workflow.res.GithubJobDetailResponse;
+import com.example.pipemate.workflow.res.WorkflowRunLogSegmentResponse;
+import com.example.pipemate.workflow.res.WorkflowRunOverviewResponse;
+import com.example.pipemate.workflow.res.WorkflowRunResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 실행 화면에 필요한 실행 정보, Job 목록, 실패한 step의 로그 일부를 한 번에 모은다.
+ * <p>
+ * - 실행과 Job 목록은 동시에 조회하고, 실행이 실패로 끝났으면 Job 목록을 기다리지 않고 바로 로그 준비(다운로드·인덱싱)를 시작한다.
+ * - 구역마다 캐시 수명이 다르다: 실행/Job 목록은 WorkflowRunCache(진행 중이면 몇 초, 완료면 오래),
+ *   실패 로그 발췌는 완료된 실행에서만 만들어지므로 excerpt-ttl 동안 보관한다. (재실행되면 updated_at이 바뀌어 새로 만든다)
+ * - 로그 발췌는 부가 정보이므로 실패해도 나머지 응답은 그대로 돌려준다.
+ */
+@Component
+@Slf4j
+public class RunOverviewAssembler {
+
+    private static final Set<String> FAILED_CONCLUSIONS = Set.of("failure", "timed_out");
+
+    private final WorkflowRunCache workflowRunCache;
+    private final RunLogStore runLogStore;
+    private final int excerptLines;
+    private final Duration activeMaxAge;
+    private final Duration completedMaxAge;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Cache<String, Optional<WorkflowRunLogSegmentResponse>> excerpts;
+
+    public RunOverviewAssembler(
+            WorkflowRunCache workflowRunCache,
+            RunLogStore runLogStore,
+            @Value("${pipemate.github.run-overview.excerpt-lines:100}") int excerptLines,
+            @Value("${pipemate.github.run-overview.excerpt-ttl:1d}") Duration excerptTtl,
+            @Value("${pipemate.github.run-overview.active-max-age:5s}") Duration activeMaxAge,
+            @Value("${pipemate.github.run-overview.completed-max-age:1m}") Duration completedMaxAge
+    ) {
+        this.workflowRunCache = workflowRunCache;
+        this.runLogStore = runLogStore;
+        this.excerptLines = excerptLines;
+        this.activeMaxAge = activeMaxAge;
+        this.completedMaxAge = completedMaxAge;
+        this.excerpts = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterAccess(excerptTtl)
+                .build();
+    }
+
+    public WorkflowRunOverviewResponse assemble(String owner, String repo, Long runId, String token) {
+        CompletableFuture<WorkflowRunResponse> runFuture = CompletableFuture.supplyAsync(
+                () -> workflowRunCache.getRun(owner, repo, runId, token), executor);
+        CompletableFuture<List<GithubJobDetailResponse>> jobsFuture = CompletableFuture.supplyAsync(
+                () -> workflowRunCache.getJobs(owner, repo, runId, token), executor);
+        // 실패한 실행이면 Job 목록 조회와 겹쳐서 로그를 미리 준비한다.
+        CompletableFuture<RunLogIndex> logsFuture = runFuture.thenApplyAsync(run ->
+                isFailedRun(run) && excerpts.getIfPresent(excerptKey(owner, repo, run)) == null
+                        ? openLogsQuietly(owner, repo, runId, token)
+                        : null, executor);
+
+        WorkflowRunResponse run = join(runFuture);
+        List<GithubJobDetailResponse> jobs = join(jobsFuture);
+
+        WorkflowRunLogSegmentResponse failure = null;
+        if (isFailedRun(run)) {
+            String key = excerptKey(owner, repo, run);
+            Optional<WorkflowRunLogSegmentResponse> cached = excerpts.getIfPresent(key);
+            RunLogIndex index = cached == null ? logsFuture.join() : null;
+            if (cached != null) {
+                failure = cached.orElse(null);
+            } else if (index != null) {
+                // 로그를 읽지 못한 경우는 다음 요청에서 다시 시도하도록 캐싱하지 않는다.
+                try {
+                    failure = excerpt(runId, jobs, index);
+                    excerpts.put(key, Optional.ofNullable(failure));
+                } catch (RuntimeException e) {
+                    log.warn("[RunOverviewAssembler] {} 로그 발췌 실패: {}", key, e.toString());
+                }
+            }
+        }
+
+        return WorkflowRunOverviewResponse.builder()
+                .run(run)
+                .jobs(jobs.stream().map(this::summarize).toList())
+                .failure(failure)
+                .maxAge("completed".equals(run.getStatus()) ? completedMaxAge : activeMaxAge)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private WorkflowRunOverviewResponse.JobSummary summarize(GithubJobDetailResponse job) {
+        GithubJobDetailResponse.Step failedStep = failedStep(job);
+        return WorkflowRunOverviewResponse.JobSummary.builder()
+                .id(job.getId())
+                .name(job.getName())
+                .status(job.getStatus())
+                .conclusion(job.getConclusion())
+                .failedStep(failedStep == null ? null : failedStep.getNumber())
+                .failedStepName(failedStep == null ? null : failedStep.getName())
+                .build();
+    }
+
+    /**
+     * 처음 실패한 Job의 실패 step 구간(없으면 Job 로그 전체)에서 마지막 excerpt-lines 라인을 읽는다.
+     */
+    private WorkflowRunLogSegmentResponse excerpt(Long runId, List<GithubJobDetailResponse> jobs, RunLogIndex index) {
+        GithubJobDetailResponse failedJob = jobs.stream()
+                .filter(job -> FAILED_CONCLUSIONS.contains(job.getConclusion()))
+                .findFirst()
+                .orElse(null);
+        if (failedJob == null) {
+            return null;
+        }
+        JobLogIndex jobLog = index.findJob(failedJob.getName()).orElse(null);
+        if (jobLog == null) {
+            return null;
+        }
+
+        GithubJobDetailResponse.Step failedStep = failedStep(failedJob);
+        JobLogIndex.StepRange range = failedStep == null ? null : jobLog.steps().stream()
+                .filter(step -> step.number() == failedStep.getNumber())
+                .findFirst()
+                .orElse(null);
+        int baseFrom = range == null ? 1 : range.fromLine();
+        int to = range == null ? jobLog.lineCount() : range.toLine();
+        int from = Math.max(baseFrom, to - excerptLines + 1);
+
+        return WorkflowRunLogSegmentResponse.builder()
+                .runId(runId)
+                .jobId(failedJob.getId())
+                .jobName(jobLog.name())
+                .step(range == null ? null : range.number())
+                .stepName(range == null ? null : range.name())
+                .fromLine(from)
+                .toLine(Math.max(to, from - 1))
+                .totalLines(jobLog.lineCount())
+                .truncated(from > baseFrom)
+                .lines(runLogStore.readLines(jobLog, from, to))
+                .build();
+    }
+
+    private RunLogIndex openLogsQuietly(String owner, String repo, Long runId, String token) {
+        try {
+            return runLogStore.open(owner, repo, runId, token);
+        } catch (RuntimeException e) {
+            log.warn("[RunOverviewAssembler] {}/{}/{} 로그 준비 실패: {}", owner, repo, runId, e.toString());
+            return null;
+        }
+    }
+
+    private static GithubJobDetailResponse.Step failedStep(GithubJobDetailResponse job) {
+        if (job.getSteps() == null) {
+            return null;
+        }
+        return job.getSteps().stream()
+                .filter(step -> FAILED_CONCLUSIONS.contains(step.getConclusion()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static boolean isFailedRun(WorkflowRunResponse run) {
+        return "completed".equals(run.getStatus()) && FAILED_CONCLUSIONS.contains(run.getConclusion());
+    }
+
+    private static String excerptKey(String owner, String repo, WorkflowRunResponse run) {
+        return owner + "/" + repo + "/" + run.getId() + "@" + run.getUpdated_at();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
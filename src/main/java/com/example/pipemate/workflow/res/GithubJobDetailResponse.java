@@ -30,6 +30,7 @@ public class GithubJobDetailResponse {
         if (stepsArray != null && stepsArray.isArray()) {
             for (JsonNode step : stepsArray) {
                 Step s = new Step();
+                s.setNumber(step.path("number").asInt());
                 s.setName(step.get("name").asText());
                 s.setStatus(step.get("status").asText());
                 s.setConclusion(step.get("conclusion").asText());
@@ -44,6 +45,7 @@ public class GithubJobDetailResponse {
 
     @Data
     public static class Step {
+        private int number;
         private String name;
         private String status;
         private String conclusion;
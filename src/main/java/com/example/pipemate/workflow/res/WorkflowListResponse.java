@@ -1,5 +1,6 @@
 package com.example.pipemate.workflow.res;
 
+import com.example.pipemate.cache.PartialCacheValue;
 import com.example.pipemate.workflow.WorkflowItem;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
@@ -7,10 +8,16 @@ import lombok.Data;
 import java.util.List;
 
 @Data
-public class WorkflowListResponse {
+public class WorkflowListResponse implements PartialCacheValue {
     @JsonProperty("total_count")
     private int totalCount;
 
     @JsonProperty("workflows")
     private List<WorkflowItem> workflows;
+
+    /**
+     * 일부 워크플로우 파일 조회에 실패(또는 시간 초과)하여 기본값으로 채워진 항목이 있는지 여부
+     */
+    @JsonProperty("partial")
+    private boolean partial;
 }
\ No newline at end of file
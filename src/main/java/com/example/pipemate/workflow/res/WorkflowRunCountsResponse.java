@@ -0,0 +1,39 @@
+package com.example.pipemate.workflow.res;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 로컬 실행 이력 집계 결과
+ */
+@Getter
+@AllArgsConstructor
+public class WorkflowRunCountsResponse {
+
+    @JsonProperty("total_count")
+    private long totalCount;
+
+    @JsonProperty("by_status")
+    private Map<String, Long> byStatus;
+
+    @JsonProperty("by_conclusion")
+    private Map<String, Long> byConclusion;
+
+    /**
+     * 기간 내 실패한 Job 이름별 횟수 (실패 횟수 내림차순)
+     */
+    @JsonProperty("failed_jobs")
+    private Map<String, Long> failedJobs;
+
+    /**
+     * 기간 내 완료 실행 중 Job 목록을 아직 받지 못한 실행이 있어 failed_jobs가 일부만 센 값인지 (다음 동기화에서 이어서 채운다)
+     */
+    @JsonProperty("failed_jobs_partial")
+    private boolean failedJobsPartial;
+
+    @JsonProperty("synced_at")
+    private String syncedAt;
+}
@@ -0,0 +1,32 @@
+package com.example.pipemate.workflow.res;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 로컬 실행 이력 조회 결과 (페이지 단위)
+ */
+@Getter
+@AllArgsConstructor
+public class WorkflowRunHistoryResponse {
+
+    @JsonProperty("total_count")
+    private long totalCount;
+
+    private int page;
+
+    @JsonProperty("per_page")
+    private int perPage;
+
+    /**
+     * 마지막으로 GitHub와 동기화한 시각
+     */
+    @JsonProperty("synced_at")
+    private String syncedAt;
+
+    @JsonProperty("workflow_runs")
+    private List<WorkflowRunListResponse.WorkflowRun> workflowRuns;
+}
@@ -16,6 +16,10 @@ public class WorkflowRunListResponse {
     @JsonProperty("workflow_runs")
     private List<WorkflowRun> workflowRuns;
 
+    // 다음 페이지 커서 (GitHub Link 헤더 기준, 마지막 페이지면 null)
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
     @Getter
     @Setter
     public static class WorkflowRun {
@@ -28,6 +32,16 @@ public class WorkflowRunListResponse {
         @JsonProperty("head_sha")
         private String headSha;
         private String path;
+        private String event;
+        @JsonProperty("display_title")
+        private String displayTitle;
+        @JsonProperty("workflow_id")
+        private Long workflowId;
+        @JsonProperty("run_number")
+        private Long runNumber;
+        @JsonProperty("run_attempt")
+        private Integer runAttempt;
+        private Actor actor;
         private String status;
         private String conclusion;
         @JsonProperty("created_at")
@@ -37,4 +51,10 @@ public class WorkflowRunListResponse {
         @JsonProperty("html_url")
         private String htmlUrl;
     }
+
+    @Getter
+    @Setter
+    public static class Actor {
+        private String login;
+    }
 }
\ No newline at end of file
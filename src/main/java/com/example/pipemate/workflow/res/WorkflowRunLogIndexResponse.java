@@ -0,0 +1,45 @@
+package com.example.pipemate.workflow.res;
+
+import com.example.pipemate.workflow.log.JobLogIndex;
+import com.example.pipemate.workflow.log.RunLogIndex;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowRunLogIndexResponse {
+    private Long runId;
+    private List<JobLog> jobs;
+
+    public static WorkflowRunLogIndexResponse from(RunLogIndex index) {
+        List<JobLog> jobs = index.jobs().stream()
+                .map(job -> new JobLog(job.name(), job.lineCount(), job.steps().stream()
+                        .map(step -> new StepLog(step.number(), step.name(), step.fromLine(), step.toLine()))
+                        .toList()))
+                .toList();
+        return new WorkflowRunLogIndexResponse(index.runId(), jobs);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobLog {
+        private String name;
+        private int totalLines;
+        private List<StepLog> steps;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepLog {
+        private int number;
+        private String name;
+        private int fromLine;
+        private int toLine;
+    }
+}
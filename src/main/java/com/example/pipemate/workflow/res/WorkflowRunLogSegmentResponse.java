@@ -0,0 +1,38 @@
+package com.example.pipemate.workflow.res;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class WorkflowRunLogSegmentResponse {
+    private Long runId;
+    private Long jobId;
+    private String jobName;
+
+    /**
+     * 조회한 step 번호와 이름 (step을 지정하지 않으면 null)
+     */
+    private Integer step;
+    private String stepName;
+
+    /**
+     * 반환된 라인 구간 (Job 로그 전체 기준, 1부터 시작, 양 끝 포함)
+     */
+    private int fromLine;
+    private int toLine;
+
+    /**
+     * Job 로그 전체 라인 수
+     */
+    private int totalLines;
+
+    /**
+     * 최대 라인 수 제한으로 요청 구간 일부만 반환되었는지 여부
+     */
+    private boolean truncated;
+
+    private List<String> lines;
+}
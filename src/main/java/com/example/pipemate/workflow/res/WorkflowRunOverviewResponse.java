@@ -0,0 +1,46 @@
+package com.example.pipemate.workflow.res;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 실행 화면을 한 번에 그리기 위한 요약: 실행 정보 + Job 요약 + 실패한 step의 로그 일부
+ */
+@Builder
+@Getter
+public class WorkflowRunOverviewResponse {
+
+    private WorkflowRunResponse run;
+
+    private List<JobSummary> jobs;
+
+    /**
+     * 처음 실패한 Job(및 step)의 로그 마지막 부분. (실패가 없거나, 실행이 끝나지 않았거나, 로그를 읽지 못하면 null)
+     */
+    private WorkflowRunLogSegmentResponse failure;
+
+    /**
+     * 응답을 클라이언트가 캐싱해도 되는 시간 (가장 짧게 바뀔 수 있는 구역 기준, Cache-Control로 전달)
+     */
+    @JsonIgnore
+    private Duration maxAge;
+
+    @Builder
+    @Getter
+    public static class JobSummary {
+        private Long id;
+        private String name;
+        private String status;
+        private String conclusion;
+
+        /**
+         * 처음 실패한 step 번호와 이름 (없으면 null)
+         */
+        private Integer failedStep;
+        private String failedStepName;
+    }
+}
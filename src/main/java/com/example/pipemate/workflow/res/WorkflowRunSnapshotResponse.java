@@ -0,0 +1,18 @@
+package com.example.pipemate.workflow.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 실행(run) 상태 스트림 구독 시 처음 전달되는 전체 상태
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowRunSnapshotResponse {
+    private WorkflowRunResponse run;
+    private List<GithubJobDetailResponse> jobs;
+}
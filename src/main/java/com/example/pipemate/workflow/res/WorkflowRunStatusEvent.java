@@ -0,0 +1,23 @@
+package com.example.pipemate.workflow.res;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 실행(run) 상태 스트림(SSE)으로 전달되는 변경 이벤트.
+ * type: run(실행 상태 변경) / job(Job 상태 변경) / step(step 상태 변경)
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkflowRunStatusEvent {
+    private String type;
+    private Long runId;
+    private Long jobId;
+    private String jobName;
+    private Integer stepNumber;
+    private String stepName;
+    private String status;
+    private String conclusion;
+}
@@ -0,0 +1,201 @@
+package com.example.pipemate.pipeline;
+
+import com.example.pipemate.pipeline.converter.YamlXStripAndComment;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * YamlXStripAndComment / YamlHashUncommenter의 문자 스캐너 구현을 무작위 입력으로 검증한다.
+ * - 기존 정규식 구현(아래 legacy*)과 결과가 같은지
+ * - 스트리밍 Writer/Reader가 임의의 조각 크기에서도 문자열 변환과 같은지
+ * - 주석 처리 → 주석 해제 왕복이 원문을 복원하는지
+ * 실패 시 seed로 같은 입력을 다시 만들 수 있도록 고정 seed에서 시작한다.
+ */
+class YamlLineTransformPropertyTest {
+
+    private static final int CASES = 5_000;
+
+    // 줄 구분, 공백·제어 문자, 주석, x_* 키 경계를 자주 섞는 조각들
+    private static final String[] PARTS = {
+            "\n", "\n", "\r\n", "\r", "\t", " ", "  ", "    ", "\u000B", "\f", "\u0085", "\u2028", "\u2029",
+            "#", "# ", "#\t", "x_", "x_a:", "x_name: v", "x_-1:", "x_:", "x_a b:", ":", "-", "a", "key: value",
+            "run: |", "- name: step", "한글", "\u0000", "\\"
+    };
+
+    @Test
+    void stripAndCommentMatchesRegexImplementation() {
+        Random random = new Random(20261017L);
+        for (int i = 0; i < CASES; i++) {
+            String input = randomYaml(random, PARTS);
+            assertEquals(legacyStripAndComment(input), YamlXStripAndComment.transform(input), () -> describe(input));
+        }
+    }
+
+    @Test
+    void uncommenterMatchesRegexImplementation() {
+        Random random = new Random(20261018L);
+        for (int i = 0; i < CASES; i++) {
+            String input = randomYaml(random, PARTS);
+            assertEquals(legacyUncomment(input), YamlHashUncommenter.transform(input), () -> describe(input));
+        }
+    }
+
+    @Test
+    void commentingWriterMatchesTransformForAnyChunking() throws IOException {
+        Random random = new Random(20261019L);
+        for (int i = 0; i < CASES; i++) {
+            String input = randomYaml(random, PARTS);
+            StringWriter out = new StringWriter();
+            try (Writer writer = YamlXStripAndComment.commentingWriter(out)) {
+                writeInChunks(writer, input, random);
+            }
+            assertEquals(YamlXStripAndComment.transform(input), out.toString(), () -> describe(input));
+        }
+    }
+
+    @Test
+    void uncommentingReaderMatchesTransformForAnyChunking() throws IOException {
+        Random random = new Random(20261020L);
+        for (int i = 0; i < CASES; i++) {
+            // 입력 버퍼(8192자)를 넘는 경우도 섞는다
+            String input = random.nextInt(20) == 0 ? randomYaml(random, PARTS).repeat(200) : randomYaml(random, PARTS);
+            try (Reader reader = YamlHashUncommenter.uncommentingReader(new StringReader(input))) {
+                assertEquals(YamlHashUncommenter.transform(input), readInChunks(reader, random), () -> describe(input));
+            }
+        }
+    }
+
+    @Test
+    void uncommentRestoresCommentedXBlocks() {
+        // 주석으로 시작하는 줄, 탭, \n 외의 줄 종결 문자가 없으면 왕복 시 원문 + 마지막 줄바꿈 두 개가 된다
+        String[] plainParts = {"\n", "\n", " ", "  ", "x_a:", "x_name: v", "x_b: |", "key: value", "- name: step", "a#b", "한글"};
+        Random random = new Random(20261021L);
+        for (int i = 0; i < CASES; i++) {
+            String input = randomYaml(random, plainParts);
+            if (startsAnyLineWithHash(input)) {
+                continue;
+            }
+            String roundTrip = YamlHashUncommenter.transform(YamlXStripAndComment.transform(input));
+            assertEquals(input + "\n\n", roundTrip, () -> describe(input));
+        }
+    }
+
+    private static String randomYaml(Random random, String[] parts) {
+        int count = random.nextInt(40);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(parts[random.nextInt(parts.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static boolean startsAnyLineWithHash(String input) {
+        for (String line : input.split("\n", -1)) {
+            if (line.trim().startsWith("#")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void writeInChunks(Writer writer, String input, Random random) throws IOException {
+        int pos = 0;
+        while (pos < input.length()) {
+            int n = Math.min(input.length() - pos, 1 + random.nextInt(16));
+            switch (random.nextInt(3)) {
+                case 0 -> writer.write(input, pos, n);
+                case 1 -> writer.write(input.toCharArray(), pos, n);
+                default -> {
+                    n = 1;
+                    writer.write(input.charAt(pos));
+                }
+            }
+            pos += n;
+        }
+    }
+
+    private static String readInChunks(Reader reader, Random random) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] buffer = new char[64];
+        while (true) {
+            int n = reader.read(buffer, 0, 1 + random.nextInt(buffer.length));
+            if (n < 0) {
+                return sb.toString();
+            }
+            sb.append(buffer, 0, n);
+        }
+    }
+
+    private static String describe(String input) {
+        return "input=" + input.chars()
+                .mapToObj(c -> c >= ' ' && c < 0x7f ? String.valueOf((char) c) : String.format("\\u%04X", c))
+                .reduce("", String::concat);
+    }
+
+    // ===== 정규식 기반 기존 구현 (비교 기준) =====
+
+    private static final Pattern X_KEY_PATTERN = Pattern.compile("^(\\s*)(x_[A-Za-z0-9_-]+):(.*)$");
+    private static final Pattern LEADING_HASH_ONCE = Pattern.compile("^(\\s*)#( ?)(.*)$");
+
+    private static String legacyStripAndComment(String yaml) {
+        String[] lines = yaml.replace("\t", "  ").split("\\r?\\n", -1);
+        StringBuilder out = new StringBuilder();
+        int blockIndent = -1;
+        for (String line : lines) {
+            if (blockIndent >= 0) {
+                if (line.isEmpty()) {
+                    out.append("# \n");
+                    continue;
+                }
+                if (countLeadingSpaces(line) > blockIndent) {
+                    out.append(line.trim().startsWith("#") ? "" : "# ").append(line).append('\n');
+                    continue;
+                }
+                blockIndent = -1;
+            }
+            if (line.trim().startsWith("#")) {
+                out.append(line).append('\n');
+                continue;
+            }
+            Matcher m = X_KEY_PATTERN.matcher(line);
+            if (m.find()) {
+                blockIndent = m.end(1);
+                out.append("# ");
+            }
+            out.append(line).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String legacyUncomment(String yaml) {
+        return legacyLines(yaml, line -> {
+            Matcher m = LEADING_HASH_ONCE.matcher(line);
+            return m.find() ? m.group(1) + m.group(3) : line;
+        });
+    }
+
+    private static String legacyLines(String yaml, Function<String, String> perLine) {
+        StringBuilder out = new StringBuilder();
+        for (String line : yaml.replace("\t", "  ").split("\\r?\\n", -1)) {
+            out.append(perLine.apply(line)).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static int countLeadingSpaces(String s) {
+        int c = 0;
+        while (c < s.length() && s.charAt(c) == ' ') c++;
+        return c;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.pipemate.pipeline.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 골든 파일(src/test/resources/pipeline/golden)로 블록 → YAML 변환 결과를 바이트 단위로 확인한다.
+ * 각 {이름}.json(블록 목록)에 대해 WorkflowYamlEmitter와 기존 변환(JsonWorkflowConverter → YamlConverter → YamlXStripAndComment)이
+ * 모두 {이름}.yml과 같아야 한다.
+ */
+class WorkflowYamlEmitterGoldenTest {
+
+    private static final String GOLDEN_DIR = "pipeline/golden/";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WorkflowYamlEmitter emitter = new WorkflowYamlEmitter();
+    private final JsonWorkflowConverter jsonWorkflowConverter = new JsonWorkflowConverter(objectMapper);
+    private final YamlConverter yamlConverter = new YamlConverter();
+
+    static Stream<String> goldenCases() throws IOException {
+        Resource[] inputs = new PathMatchingResourcePatternResolver().getResources("classpath:" + GOLDEN_DIR + "*.json");
+        return Arrays.stream(inputs)
+                .map(Resource::getFilename)
+                .map(name -> name.substring(0, name.length() - ".json".length()))
+                .sorted();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("goldenCases")
+    void emitterMatchesGoldenFile(String name) throws IOException {
+        assertThat(emitter.toYaml(blocks(name))).isEqualTo(expected(name));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("goldenCases")
+    void mapPipelineMatchesGoldenFile(String name) throws IOException {
+        String yaml = yamlConverter.convertJsonToYaml(jsonWorkflowConverter.convertToWorkflowJson(blocks(name)));
+
+        assertThat(YamlXStripAndComment.transform(yaml)).isEqualTo(expected(name));
+    }
+
+    private List<JsonNode> blocks(String name) throws IOException {
+        List<JsonNode> blocks = new ArrayList<>();
+        objectMapper.readTree(new ClassPathResource(GOLDEN_DIR + name + ".json").getInputStream()).forEach(blocks::add);
+        return blocks;
+    }
+
+    private String expected(String name) throws IOException {
+        return new ClassPathResource(GOLDEN_DIR + name + ".yml").getContentAsString(StandardCharsets.UTF_8);
+    }
+}
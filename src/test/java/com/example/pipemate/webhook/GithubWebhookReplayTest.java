@@ -0,0 +1,183 @@
+package com.example.pipemate.webhook;
+
+import com.example.pipemate.cache.RepoCacheInvalidator;
+import com.example.pipemate.util.GithubApiClient;
+import com.example.pipemate.util.GithubRepoAccessVerifier;
+import com.example.pipemate.workflow.WorkflowRunCache;
+import com.example.pipemate.workflow.res.GithubJobDetailResponse;
+import com.example.pipemate.workflow.res.WorkflowRunResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 녹화된 GitHub 웹훅 본문(src/test/resources/webhook)을 서명과 함께 재생하여 캐시 반영 결과를 확인한다.
+ */
+@SpringBootTest(properties = "pipemate.github.webhook.secret=" + GithubWebhookReplayTest.SECRET)
+@AutoConfigureMockMvc
+class GithubWebhookReplayTest {
+
+    static final String SECRET = "webhook-test-secret";
+
+    private static final String OWNER = "pipemate-demo";
+    private static final String REPO = "sample-app";
+    private static final long RUN_ID = 9876543210L;
+    private static final String TOKEN = "test-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private GithubApiClient githubApiClient;
+
+    @MockitoBean
+    private GithubRepoAccessVerifier accessVerifier;
+
+    @MockitoBean
+    private RepoCacheInvalidator repoCacheInvalidator;
+
+    @MockitoSpyBean
+    private WorkflowRunCache workflowRunCache;
+
+    @Test
+    void workflowRunEventsUpdateRunCacheAndIgnoreOutOfOrderDelivery() throws Exception {
+        replay("workflow_run", "workflow_run_completed.json", status().isAccepted());
+        replay("workflow_run", "workflow_run_in_progress.json", status().isAccepted());
+        verify(workflowRunCache, timeout(5000).times(2)).applyRun(eq(OWNER), eq(REPO), any(WorkflowRunResponse.class));
+
+        WorkflowRunResponse run = eventually(() -> workflowRunCache.getRun(OWNER, REPO, RUN_ID, TOKEN),
+                cached -> "completed".equals(cached.getStatus()));
+
+        assertThat(run.getStatus()).isEqualTo("completed");
+        assertThat(run.getConclusion()).isEqualTo("success");
+        assertThat(run.getUpdated_at()).isEqualTo("2025-07-01T03:12:47Z");
+        verify(githubApiClient, never()).fetchWorkflowRun(any(), any(), any(), any());
+    }
+
+    @Test
+    void workflowJobEventUpdatesCachedJobList() throws Exception {
+        GithubJobDetailResponse running = new GithubJobDetailResponse(27182818284L, "build", "in_progress", null, List.of());
+        when(githubApiClient.fetchWorkflowJobs(OWNER, REPO, RUN_ID, TOKEN)).thenReturn(List.of(running));
+        assertThat(workflowRunCache.getJobs(OWNER, REPO, RUN_ID, TOKEN)).extracting(GithubJobDetailResponse::getStatus)
+                .containsExactly("in_progress");
+
+        replay("workflow_job", "workflow_job_completed.json", status().isAccepted());
+        verify(workflowRunCache, timeout(5000)).applyJob(eq(OWNER), eq(REPO), eq(RUN_ID), any(GithubJobDetailResponse.class));
+
+        List<GithubJobDetailResponse> jobs = eventually(() -> workflowRunCache.getJobs(OWNER, REPO, RUN_ID, TOKEN),
+                cached -> "completed".equals(cached.get(0).getStatus()));
+
+        assertThat(jobs).hasSize(1);
+        assertThat(jobs.get(0).getStatus()).isEqualTo("completed");
+        assertThat(jobs.get(0).getSteps()).extracting(GithubJobDetailResponse.Step::getName)
+                .containsExactly("Set up job", "Run ./gradlew build", "Complete job");
+        verify(githubApiClient, times(1)).fetchWorkflowJobs(OWNER, REPO, RUN_ID, TOKEN);
+    }
+
+    @Test
+    void pushTouchingWorkflowsInvalidatesWorkflowList() throws Exception {
+        replay("push", "push_workflow_change.json", status().isAccepted());
+
+        verify(repoCacheInvalidator, timeout(5000)).invalidate(OWNER, REPO, "workflow-file-list");
+    }
+
+    @Test
+    void pushNotTouchingWorkflowsKeepsWorkflowList() throws Exception {
+        replay("push", "push_readme_only.json", status().isAccepted());
+
+        verify(repoCacheInvalidator, after(500).never()).invalidate(any(), any(), any(String[].class));
+    }
+
+    @Test
+    void redeliveredEventIsHandledOnce() throws Exception {
+        String deliveryId = UUID.randomUUID().toString();
+        byte[] body = payload("workflow_run_completed.json");
+
+        send("workflow_run", deliveryId, sign(body), body, status().isAccepted());
+        send("workflow_run", deliveryId, sign(body), body, status().isAccepted());
+
+        verify(workflowRunCache, after(500).times(1)).applyRun(eq(OWNER), eq(REPO), any(WorkflowRunResponse.class));
+    }
+
+    @Test
+    void invalidSignatureIsRejected() throws Exception {
+        byte[] body = payload("workflow_run_completed.json");
+
+        send("workflow_run", UUID.randomUUID().toString(), "sha256=" + "0".repeat(64), body, status().isUnauthorized());
+        send("workflow_run", UUID.randomUUID().toString(), null, body, status().isUnauthorized());
+
+        verify(workflowRunCache, after(500).never()).applyRun(any(), any(), any());
+    }
+
+    @Test
+    void pingIsAcknowledgedWithoutDispatch() throws Exception {
+        replay("ping", "ping.json", status().isAccepted());
+
+        verify(workflowRunCache, after(500).never()).applyRun(any(), any(), any());
+        verify(repoCacheInvalidator, never()).invalidate(any(), any(), any(String[].class));
+    }
+
+    /**
+     * 비동기로 처리되는 이벤트가 캐시에 반영될 때까지 기다린다. (verify(timeout)은 호출 시작만 확인하므로)
+     */
+    private <T> T eventually(Supplier<T> supplier, Predicate<T> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            T value = supplier.get();
+            if (condition.test(value) || System.nanoTime() > deadline) {
+                return value;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private void replay(String event, String payloadFile, ResultMatcher expected) throws Exception {
+        byte[] body = payload(payloadFile);
+        send(event, UUID.randomUUID().toString(), sign(body), body, expected);
+    }
+
+    private void send(String event, String deliveryId, String signature, byte[] body, ResultMatcher expected) throws Exception {
+        var request = post("/api/webhooks/github")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-GitHub-Event", event)
+                .header("X-GitHub-Delivery", deliveryId)
+                .content(body);
+        if (signature != null) {
+            request.header("X-Hub-Signature-256", signature);
+        }
+        mockMvc.perform(request).andExpect(expected);
+    }
+
+    private byte[] payload(String file) throws Exception {
+        return new ClassPathResource("webhook/" + file).getInputStream().readAllBytes();
+    }
+
+    private String sign(byte[] body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return "sha256=" + HexFormat.of().formatHex(mac.doFinal(body));
+    }
+}
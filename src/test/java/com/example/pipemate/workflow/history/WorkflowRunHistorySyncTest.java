@@ -0,0 +1,185 @@
+package com.example.pipemate.workflow.history;
+
+import com.example.pipemate.util.GithubApiClient;
+import com.example.pipemate.util.GithubFanOutExecutor;
+import com.example.pipemate.workflow.history.entity.WorkflowRunRecord;
+import com.example.pipemate.workflow.history.entity.WorkflowRunSyncState;
+import com.example.pipemate.workflow.history.repository.WorkflowRunRecordRepository;
+import com.example.pipemate.workflow.history.repository.WorkflowRunSyncStateRepository;
+import com.example.pipemate.workflow.res.WorkflowRunListResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * max-pages에서 끊긴 동기화가 다음 동기화에서 빈 구간 없이 이어지는지,
+ * Job 목록을 받지 않은 완료 실행이 동기화마다 jobs-per-sync개씩 채워지는지 확인한다.
+ */
+class WorkflowRunHistorySyncTest {
+
+    private static final String OWNER = "pipemate-demo";
+    private static final String REPO = "sample-app";
+
+    private final Instant base = Instant.now().minus(Duration.ofDays(1)).truncatedTo(ChronoUnit.SECONDS);
+    // GitHub에 있는 실행 (생성 시각은 1분 간격)
+    private final List<WorkflowRunListResponse.WorkflowRun> githubRuns = new ArrayList<>();
+    private final Set<Long> stored = new HashSet<>();
+    private final Set<Long> jobsSynced = new HashSet<>();
+    private final Map<String, WorkflowRunSyncState> states = new HashMap<>();
+
+    private WorkflowRunHistorySync sync;
+
+    @BeforeEach
+    void setUp() {
+        GithubApiClient githubApiClient = mock(GithubApiClient.class);
+        when(githubApiClient.fetchWorkflowRunsPage(eq(OWNER), eq(REPO), anyMap(), any()))
+                .thenAnswer(invocation -> page(invocation.getArgument(2)));
+
+        WorkflowRunHistoryWriter writer = mock(WorkflowRunHistoryWriter.class);
+        when(writer.upsertRuns(eq(OWNER), eq(REPO), anyList())).thenAnswer(invocation -> {
+            List<WorkflowRunListResponse.WorkflowRun> runs = invocation.getArgument(2);
+            runs.forEach(run -> stored.add(run.getId()));
+            return new WorkflowRunHistoryWriter.UpsertResult(runs.size(), 0);
+        });
+        doAnswer(invocation -> jobsSynced.add(invocation.getArgument(2)))
+                .when(writer).upsertJobs(eq(OWNER), eq(REPO), anyLong(), any(), anyList());
+
+        GithubFanOutExecutor fanOutExecutor = mock(GithubFanOutExecutor.class);
+        when(fanOutExecutor.mapOrdered(anyString(), anyList(), any(), any())).thenAnswer(invocation -> {
+            List<WorkflowRunRecord> items = invocation.getArgument(1);
+            Function<WorkflowRunRecord, Object> task = invocation.getArgument(2);
+            return items.stream().map(task).toList();
+        });
+        when(githubApiClient.fetchWorkflowJobs(eq(OWNER), eq(REPO), anyLong(), any())).thenReturn(List.of());
+
+        WorkflowRunRecordRepository runRepository = mock(WorkflowRunRecordRepository.class);
+        when(runRepository.findCompletedWithoutJobs(eq(OWNER), eq(REPO), any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(2);
+            return githubRuns.stream()
+                    .filter(run -> stored.contains(run.getId()) && !jobsSynced.contains(run.getId()))
+                    .sorted(Comparator.comparing(WorkflowRunListResponse.WorkflowRun::getCreatedAt).reversed())
+                    .limit(pageable.getPageSize())
+                    .map(run -> WorkflowRunRecord.from(OWNER, REPO, run))
+                    .toList();
+        });
+
+        WorkflowRunSyncStateRepository stateRepository = mock(WorkflowRunSyncStateRepository.class);
+        when(stateRepository.findById(anyString())).thenAnswer(invocation -> Optional.ofNullable(states.get(invocation.<String>getArgument(0))));
+        when(stateRepository.save(any(WorkflowRunSyncState.class))).thenAnswer(invocation -> {
+            WorkflowRunSyncState state = invocation.getArgument(0);
+            states.put(state.getId(), state);
+            return state;
+        });
+
+        sync = new WorkflowRunHistorySync(githubApiClient, fanOutExecutor, writer, runRepository, stateRepository,
+                Duration.ZERO, Duration.ofDays(90), Duration.ofDays(1), 2, 30);
+    }
+
+    @Test
+    void syncCutShortByMaxPagesResumesDownToWatermark() {
+        addRuns(350);
+
+        // 1. max-pages(2) × 100건에서 끊긴다: watermark는 그대로, 받은 것 중 가장 오래된 시각을 resumeBefore로 남긴다.
+        WorkflowRunSyncState first = sync.syncIfStale(OWNER, REPO, "token");
+        assertThat(stored).hasSize(200);
+        assertThat(first.getResumeBefore()).isEqualTo(createdAt(150));
+        assertThat(first.getCreatedWatermark()).isBefore(createdAt(0));
+        assertThat(first.getPendingWatermark()).isEqualTo(createdAt(349));
+
+        // 2. 이어서 resumeBefore부터 watermark까지 내려가 남은 실행을 모두 받고, watermark를 처음 받은 가장 최근 실행으로 옮긴다.
+        WorkflowRunSyncState second = sync.syncIfStale(OWNER, REPO, "token");
+        assertThat(stored).hasSize(350);
+        assertThat(second.getResumeBefore()).isNull();
+        assertThat(second.getCreatedWatermark()).isEqualTo(createdAt(349));
+
+        // 3. 이후 생성된 실행은 watermark 이후 조회로 받는다.
+        addRuns(5);
+        WorkflowRunSyncState third = sync.syncIfStale(OWNER, REPO, "token");
+        assertThat(stored).hasSize(355);
+        assertThat(third.getResumeBefore()).isNull();
+        assertThat(third.getCreatedWatermark()).isEqualTo(createdAt(354));
+    }
+
+    @Test
+    void syncWithinMaxPagesMovesWatermarkToNewestRun() {
+        addRuns(150);
+
+        WorkflowRunSyncState state = sync.syncIfStale(OWNER, REPO, "token");
+
+        assertThat(stored).hasSize(150);
+        assertThat(state.getResumeBefore()).isNull();
+        assertThat(state.getCreatedWatermark()).isEqualTo(createdAt(149));
+    }
+
+    @Test
+    void completedRunsWithoutJobsAreBackfilledAcrossSyncs() {
+        addRuns(50);
+
+        // 1. 한 번에 jobs-per-sync(30)개까지, 최근 실행부터 Job 목록을 받는다.
+        sync.syncIfStale(OWNER, REPO, "token");
+        assertThat(jobsSynced).hasSize(30).contains(1049L).doesNotContain(1000L);
+
+        // 2. 새 실행이 없어도 다음 동기화에서 남은 실행을 이어서 채운다.
+        sync.syncIfStale(OWNER, REPO, "token");
+        assertThat(jobsSynced).hasSize(50);
+    }
+
+    private void addRuns(int count) {
+        for (int i = 0; i < count; i++) {
+            int index = githubRuns.size();
+            WorkflowRunListResponse.WorkflowRun run = new WorkflowRunListResponse.WorkflowRun();
+            run.setId(1000L + index);
+            run.setStatus("completed");
+            run.setConclusion("success");
+            run.setCreatedAt(createdAt(index).toString());
+            run.setUpdatedAt(createdAt(index).toString());
+            githubRuns.add(run);
+        }
+    }
+
+    private Instant createdAt(int index) {
+        return base.plus(Duration.ofMinutes(index));
+    }
+
+    /**
+     * created 조건("a..b", ">=a", "<=b")과 페이지를 GitHub처럼 생성 시각 역순으로 적용한다.
+     */
+    private GithubApiClient.WorkflowRunPage page(Map<String, String> params) {
+        String created = params.get("created");
+        Instant from = null;
+        Instant to = null;
+        if (created.contains("..")) {
+            from = Instant.parse(created.substring(0, created.indexOf("..")));
+            to = Instant.parse(created.substring(created.indexOf("..") + 2));
+        } else if (created.startsWith(">=")) {
+            from = Instant.parse(created.substring(2));
+        } else {
+            to = Instant.parse(created.substring(2));
+        }
+        int perPage = Integer.parseInt(params.get("per_page"));
+        int page = Integer.parseInt(params.get("page"));
+
+        Instant lower = from;
+        Instant upper = to;
+        List<WorkflowRunListResponse.WorkflowRun> matched = githubRuns.stream()
+                .filter(run -> lower == null || !Instant.parse(run.getCreatedAt()).isBefore(lower))
+                .filter(run -> upper == null || !Instant.parse(run.getCreatedAt()).isAfter(upper))
+                .sorted(Comparator.comparing(WorkflowRunListResponse.WorkflowRun::getCreatedAt).reversed())
+                .toList();
+
+        WorkflowRunListResponse body = new WorkflowRunListResponse();
+        body.setTotalCount(matched.size());
+        body.setWorkflowRuns(matched.subList(Math.min(matched.size(), (page - 1) * perPage), Math.min(matched.size(), page * perPage)));
+        return new GithubApiClient.WorkflowRunPage(body, null);
+    }
+}